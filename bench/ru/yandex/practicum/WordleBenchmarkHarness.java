@@ -0,0 +1,101 @@
+package ru.yandex.practicum;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class WordleBenchmarkHarness {
+
+    public interface Setup<S> {
+        S prepare() throws Exception;
+    }
+
+    public interface Operation<S> {
+        // Возвращаемое значение поглощается, чтобы JIT не выбросил вызов
+        Object run(S state) throws Exception;
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long warmupNanos;
+    private final long measureNanos;
+    private final int minInvocations;
+    private volatile Object sink;
+
+    public WordleBenchmarkHarness(long warmupMillis, long measureMillis, int minInvocations) {
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.measureNanos = measureMillis * 1_000_000L;
+        this.minInvocations = minInvocations;
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public static void printHeader() {
+        System.out.printf(Locale.ROOT, "%-34s %-22s %8s %12s %12s %12s %12s %10s %8s%n",
+                "benchmark", "params", "ops", "avg ns/op", "p50 ns/op", "p99 ns/op", "B/op", "MB/s", "gc ms");
+    }
+
+    // Каждый вызов получает свежее состояние из setup, в замер попадает только operation
+    public <S> void run(String name, String params, int batch, Setup<S> setup, Operation<S> operation) throws Exception {
+        measure(setup, operation, warmupNanos, null);
+
+        long gcBefore = gcMillis();
+        Result result = new Result();
+        measure(setup, operation, measureNanos, result);
+        long gcAfter = gcMillis();
+
+        long[] times = Arrays.copyOf(result.times, result.count);
+        Arrays.sort(times);
+        double avg = (double) result.totalNanos / result.count / batch;
+        double bytesPerOp = (double) result.totalBytes / result.count / batch;
+        double mbPerSecond = result.totalBytes / (result.totalNanos / 1e9) / (1024 * 1024);
+        System.out.printf(Locale.ROOT, "%-34s %-22s %8d %12.1f %12.1f %12.1f %12.1f %10.1f %8d%n",
+                name, params, (long) result.count * batch, avg,
+                (double) times[times.length / 2] / batch,
+                (double) times[Math.min(times.length - 1, (int) (times.length * 0.99))] / batch,
+                bytesPerOp, mbPerSecond, gcAfter - gcBefore);
+    }
+
+    private <S> void measure(Setup<S> setup, Operation<S> operation, long budgetNanos, Result result) throws Exception {
+        long threadId = Thread.currentThread().threadId();
+        long deadline = System.nanoTime() + budgetNanos;
+        int invocations = 0;
+        while (invocations < minInvocations || System.nanoTime() < deadline) {
+            S state = setup.prepare();
+            long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sink = operation.run(state);
+            long elapsed = System.nanoTime() - start;
+            long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+            if (result != null) {
+                result.add(elapsed, bytes);
+            }
+            invocations++;
+        }
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static final class Result {
+        long[] times = new long[1024];
+        int count;
+        long totalNanos;
+        long totalBytes;
+
+        void add(long nanos, long bytes) {
+            if (count == times.length) {
+                times = Arrays.copyOf(times, count * 2);
+            }
+            times[count++] = nanos;
+            totalNanos += nanos;
+            totalBytes += bytes;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package ru.yandex.practicum;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+public class WordleBenchmarks {
+
+    private static final String REAL_DICTIONARY = "words_ru.txt";
+    private static final int BATCH = 1024;
+
+    private final PrintWriter nullLog = new PrintWriter(Writer.nullWriter());
+    private final Random random = new Random(42);
+    private final WordleBenchmarkHarness harness;
+    private final Set<String> only;
+
+    private WordleBenchmarks(WordleBenchmarkHarness harness, Set<String> only) {
+        this.harness = harness;
+        this.only = only;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        List<String> sizes = Arrays.asList(options.getOrDefault("sizes", "real,10000,100000,1000000").split(","));
+        int[] stages = Arrays.stream(options.getOrDefault("stages", "0,2,4").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "500"));
+        long measure = Long.parseLong(options.getOrDefault("measure", "1000"));
+        Set<String> only = options.containsKey("only")
+                ? new HashSet<>(Arrays.asList(options.get("only").split(","))) : Collections.emptySet();
+
+        WordleBenchmarks benchmarks = new WordleBenchmarks(new WordleBenchmarkHarness(warmup, measure, 5), only);
+        WordleBenchmarkHarness.printHeader();
+        for (String size : sizes) {
+            benchmarks.runAll(size, stages);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Ожидался параметр вида --имя значение: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private boolean enabled(String name) {
+        return only.isEmpty() || only.contains(name);
+    }
+
+    private void runAll(String size, int[] stages) throws Exception {
+        Path file = dictionaryFile(size);
+        WordleDictionary dictionary = new WordleDictionaryLoader(nullLog).loadDictionary(file.toString());
+        String n = "n=" + dictionary.size();
+
+        if (enabled("loadDictionary")) {
+            harness.run("WordleDictionaryLoader.loadDictionary", n, 1, () -> file.toString(),
+                    name -> new WordleDictionaryLoader(nullLog).loadDictionary(name));
+        }
+        if (enabled("contains")) {
+            String[] queries = containsQueries(dictionary);
+            harness.run("WordleDictionary.contains", n, BATCH, () -> queries, words -> {
+                int found = 0;
+                for (String word : words) {
+                    if (dictionary.contains(word)) found++;
+                }
+                return found;
+            });
+        }
+        if (enabled("answerPool")) {
+            int[] ids = new int[dictionary.size()];
+            double[] weights = new double[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = i;
+                weights[i] = 1.0 / (i + 1);
+            }
+            WordleAnswerPool pool = new WordleAnswerPool(dictionary, ids, weights);
+            SplittableRandom poolRandom = new SplittableRandom(42);
+            harness.run("WordleAnswerPool.sampleId", n, BATCH, () -> poolRandom, generator -> {
+                int sum = 0;
+                for (int i = 0; i < BATCH; i++) {
+                    sum += pool.sampleId(generator);
+                }
+                return sum;
+            });
+        }
+
+        if (enabled("partition")) {
+            // Первый ход без кэша (свежий разбиватель) и второй ход по корзине случайного первого
+            harness.run("WordlePartitioner.partition", n + " move=1", 1,
+                    () -> new PartitionMove(new WordlePartitioner(dictionary, null), null, dictionary),
+                    move -> move.partitioner.partition(move.guessId, move.candidates));
+            WordlePartitioner shared = new WordlePartitioner(dictionary, null);
+            harness.run("WordlePartitioner.partition", n + " move=2", 1,
+                    () -> new PartitionMove(shared, shared.partition(random.nextInt(dictionary.size()), null), dictionary),
+                    move -> move.partitioner.partition(move.guessId, move.candidates));
+        }
+
+        if (enabled("multiBoardHint")) {
+            // Подсказка для 16 досок после первой догадки: первый ход у движка общий и закэширован
+            WordleMultiBoardHintEngine engine = new WordleMultiBoardHintEngine(dictionary, null, ForkJoinPool.commonPool());
+            WordleLogger boardLog = WordleLogger.synchronous(nullLog);
+            harness.run("WordleMultiBoardGame.generateHint", n + " boards=16", 1, () -> {
+                WordleMultiBoardGame game = new WordleMultiBoardGame(engine, boardLog, 16);
+                game.checkGuess(randomWord(dictionary));
+                return game;
+            }, WordleMultiBoardGame::generateHint);
+        }
+
+        if (enabled("journal")) {
+            // Пачка событий от одного писателя и ожидание ее fsync: group commit делит один fsync на всю пачку
+            Path journalDir = Files.createTempDirectory("wordle-journal");
+            try (WordleJournal journal = new WordleJournal(journalDir)) {
+                harness.run("WordleJournal.append", "records=" + BATCH, BATCH, () -> journal, target -> {
+                    long last = 0;
+                    for (int i = 0; i < BATCH; i++) {
+                        last = target.append(WordleJournal.EventType.GUESS, i, i % 6, i, i % WordleFeedback.PATTERN_COUNT);
+                    }
+                    target.sync(last);
+                    return last;
+                });
+            }
+            try (Stream<Path> segments = Files.list(journalDir)) {
+                for (Path segment : segments.toList()) {
+                    Files.delete(segment);
+                }
+            }
+            Files.delete(journalDir);
+        }
+
+        if (enabled("entropyHint")) {
+            // Первый ход по всему словарю: с ростом словаря точная оценка сменяется оценкой по выборке
+            WordleEntropyHintStrategy strategy = new WordleEntropyHintStrategy();
+            int[] ids = new int[dictionary.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = i;
+            }
+            harness.run("WordleEntropyHintStrategy.selectHint", n, 1, () -> ids,
+                    candidates -> strategy.selectHint(dictionary, candidates, candidates.length));
+        }
+
+        for (int stage : stages) {
+            String params = n + " stage=" + stage;
+            if (enabled("getFilteredWords")) {
+                harness.run("WordleDictionary.getFilteredWords", params, 1,
+                        () -> filterAtStage(dictionary, stage), dictionary::getFilteredWords);
+            }
+            if (enabled("checkGuess") && stage < 6) {
+                harness.run("WordleGame.checkGuess", params, 1,
+                        () -> new GameState(gameAtStage(dictionary, stage), randomWord(dictionary)),
+                        state -> state.game.checkGuess(state.guess));
+            }
+            if (enabled("generateHint")) {
+                harness.run("WordleGame.generateHint", params, 1,
+                        () -> gameAtStage(dictionary, stage), WordleGame::generateHint);
+            }
+            if (enabled("updateFromGuess")) {
+                harness.run("WordleHintFilter.updateFromGuess", params, 1,
+                        () -> new FilterUpdate(filterAtStage(dictionary, stage), dictionary),
+                        update -> {
+                            update.filter.updateFromGuess(update.guess, update.pattern);
+                            return update.filter;
+                        });
+            }
+            if (enabled("matches")) {
+                String[] words = sampleWords(dictionary, BATCH);
+                harness.run("WordleHintFilter.matches", params, BATCH,
+                        () -> filterAtStage(dictionary, stage), filter -> {
+                            int matched = 0;
+                            for (String word : words) {
+                                if (filter.matches(word)) matched++;
+                            }
+                            return matched;
+                        });
+            }
+        }
+    }
+
+    private Path dictionaryFile(String size) throws IOException {
+        if (size.equals("real")) {
+            Path real = Paths.get(REAL_DICTIONARY);
+            if (!Files.exists(real)) {
+                throw new WordleSystemException("Файл словаря не найден: " + REAL_DICTIONARY);
+            }
+            return real;
+        }
+        int count = Integer.parseInt(size);
+        Path file = Files.createTempFile("wordle-bench-" + count + "-", ".txt");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String word : syntheticWords(count)) {
+                writer.write(word);
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    // Синтетические слова повторяют частоты букв по позициям из настоящего словаря, если он есть
+    private List<String> syntheticWords(int count) throws IOException {
+        int[][] frequencies = new int[5][WordleAlphabet.LETTER_COUNT];
+        for (int[] row : frequencies) Arrays.fill(row, 1);
+        Path real = Paths.get(REAL_DICTIONARY);
+        if (Files.exists(real)) {
+            for (String word : new WordleDictionaryLoader(nullLog).loadDictionary(real.toString()).getWords()) {
+                for (int i = 0; i < 5; i++) {
+                    frequencies[i][WordleAlphabet.letterCode(word.charAt(i))]++;
+                }
+            }
+        }
+
+        Random synthetic = new Random(count);
+        Set<Integer> codes = new LinkedHashSet<>();
+        int attempts = 0;
+        while (codes.size() < count) {
+            // При нехватке уникальных слов по частотам добираем равномерно случайными
+            boolean uniform = ++attempts > count * 20L;
+            int code = 0;
+            for (int i = 0; i < 5; i++) {
+                int letter = uniform ? synthetic.nextInt(WordleAlphabet.LETTER_COUNT) : sample(frequencies[i], synthetic);
+                code |= letter << (WordleAlphabet.BITS_PER_LETTER * i);
+            }
+            codes.add(code);
+        }
+
+        List<String> words = new ArrayList<>(count);
+        for (int code : codes) {
+            words.add(WordleAlphabet.decode(code));
+        }
+        return words;
+    }
+
+    private static int sample(int[] weights, Random random) {
+        int total = 0;
+        for (int weight : weights) total += weight;
+        int point = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            point -= weights[i];
+            if (point < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    private String[] containsQueries(WordleDictionary dictionary) {
+        String[] queries = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            String word = randomWord(dictionary);
+            // Половина запросов - промахи: слово с переставленными буквами
+            queries[i] = i % 2 == 0 ? word : new StringBuilder(word).reverse().toString().toUpperCase();
+        }
+        return queries;
+    }
+
+    private String[] sampleWords(WordleDictionary dictionary, int count) {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = randomWord(dictionary);
+        }
+        return words;
+    }
+
+    private String randomWord(WordleDictionary dictionary) {
+        return dictionary.getWord(random.nextInt(dictionary.size()));
+    }
+
+    private WordleGame gameAtStage(WordleDictionary dictionary, int stage) {
+        while (true) {
+            WordleGame game = new WordleGame(dictionary, nullLog);
+            for (int i = 0; i < stage && !game.isGameOver(); i++) {
+                game.checkGuess(randomWord(dictionary));
+            }
+            if (!game.isGameOver() || stage >= 6) {
+                return game;
+            }
+        }
+    }
+
+    private WordleHintFilter filterAtStage(WordleDictionary dictionary, int stage) {
+        WordleHintFilter filter = new WordleHintFilter();
+        int answer = dictionary.getWordCode(random.nextInt(dictionary.size()));
+        for (int i = 0; i < stage; i++) {
+            int guess = dictionary.getWordCode(random.nextInt(dictionary.size()));
+            filter.updateFromGuess(guess, WordleFeedback.compute(guess, answer));
+        }
+        return filter;
+    }
+
+    private static final class GameState {
+        final WordleGame game;
+        final String guess;
+
+        GameState(WordleGame game, String guess) {
+            this.game = game;
+            this.guess = guess;
+        }
+    }
+
+    private final class FilterUpdate {
+        final WordleHintFilter filter;
+        final int guess;
+        final int pattern;
+
+        FilterUpdate(WordleHintFilter filter, WordleDictionary dictionary) {
+            this.filter = filter;
+            this.guess = WordleAlphabet.encode(randomWord(dictionary));
+            this.pattern = WordleFeedback.compute(guess, WordleAlphabet.encode(randomWord(dictionary)));
+        }
+    }
+
+    private final class PartitionMove {
+        final WordlePartitioner partitioner;
+        final WordlePartitioner.Bucket candidates;
+        final int guessId;
+
+        PartitionMove(WordlePartitioner partitioner, WordlePartitioner.Bucket candidates, WordleDictionary dictionary) {
+            this.partitioner = partitioner;
+            this.candidates = candidates;
+            this.guessId = random.nextInt(dictionary.size());
+        }
+    }
+}
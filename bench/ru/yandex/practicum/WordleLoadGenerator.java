@@ -0,0 +1,199 @@
+package ru.yandex.practicum;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Нагрузка на WordleServer: каждое соединение ведет несколько игр сразу и отправляет
+// по одной догадке в каждую игру за раунд конвейером. Без --port поднимает сервер в этом же процессе.
+public class WordleLoadGenerator {
+
+    private final int port;
+    private final int connections;
+    private final int sessionsPerConnection;
+    private final String[] words;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger failedConnections = new AtomicInteger();
+    private final List<long[]> roundTripSamples = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean measuring;
+    private volatile boolean running = true;
+
+    private WordleLoadGenerator(int port, int connections, int sessionsPerConnection, String[] words) {
+        this.port = port;
+        this.connections = connections;
+        this.sessionsPerConnection = sessionsPerConnection;
+        this.words = words;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        int connections = Integer.parseInt(options.getOrDefault("connections", "2000"));
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "10"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "5000"));
+        long duration = Long.parseLong(options.getOrDefault("duration", "15000"));
+
+        PrintWriter nullLog = new PrintWriter(Writer.nullWriter());
+        WordleDictionary dictionary = new WordleDictionaryLoader(nullLog)
+                .loadDictionary(options.getOrDefault("dictionary", "words_ru.txt"));
+        String[] words = dictionary.getWords().toArray(new String[0]);
+
+        WordleServer server = null;
+        int port;
+        if (options.containsKey("port")) {
+            port = Integer.parseInt(options.get("port"));
+        } else {
+            WordleLogger serverLog = WordleLogger.async(Writer.nullWriter(), WordleLogLevel.INFO, 65536,
+                    WordleLogger.OverflowPolicy.DROP);
+            server = new WordleServer(new WordleSessionRegistry(dictionary, serverLog, connections * sessions), serverLog);
+            server.start(0);
+            port = server.getPort();
+        }
+
+        WordleLoadGenerator generator = new WordleLoadGenerator(port, connections, sessions, words);
+        try {
+            generator.run(warmup, duration);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private void run(long warmupMillis, long durationMillis) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(connections);
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            clients.add(Thread.ofVirtual().start(() -> runClient(started)));
+        }
+        started.await();
+        System.out.printf("Соединений: %d, одновременных игр: %d, ошибок подключения: %d%n",
+                connections, connections * sessionsPerConnection, failedConnections.get());
+
+        Thread.sleep(warmupMillis);
+        requests.reset();
+        finishedGames.reset();
+        errors.reset();
+        roundTripSamples.clear();
+        measuring = true;
+        long start = System.nanoTime();
+        Thread.sleep(durationMillis);
+        measuring = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        for (Thread client : clients) {
+            client.join();
+        }
+
+        long[] latencies = mergeSamples();
+        System.out.printf("Запросов в секунду: %.0f%n", requests.sum() / seconds);
+        System.out.printf("Завершенных игр в секунду: %.0f%n", finishedGames.sum() / seconds);
+        System.out.printf("Ошибок протокола: %d%n", errors.sum());
+        if (latencies.length > 0) {
+            System.out.printf("Время раунда (%d запросов), мкс: p50=%d p99=%d max=%d%n", sessionsPerConnection,
+                    percentile(latencies, 0.50) / 1000, percentile(latencies, 0.99) / 1000,
+                    latencies[latencies.length - 1] / 1000);
+        }
+    }
+
+    private void runClient(CountDownLatch started) {
+        boolean counted = false;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String[] sessionIds = new String[sessionsPerConnection];
+            for (int i = 0; i < sessionsPerConnection; i++) {
+                writer.write("NEW\n");
+            }
+            writer.flush();
+            for (int i = 0; i < sessionsPerConnection; i++) {
+                sessionIds[i] = expectOk(reader.readLine());
+            }
+            started.countDown();
+            counted = true;
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long[] samples = new long[1024];
+            int sampleCount = 0;
+            while (running) {
+                long roundStart = System.nanoTime();
+                for (String id : sessionIds) {
+                    if (id == null) {
+                        writer.write("NEW\n");
+                    } else {
+                        writer.write("GUESS " + id + " " + words[random.nextInt(words.length)] + "\n");
+                    }
+                }
+                writer.flush();
+                for (int i = 0; i < sessionIds.length; i++) {
+                    String response = reader.readLine();
+                    if (sessionIds[i] == null) {
+                        sessionIds[i] = expectOk(response);
+                    } else if (response.endsWith("WON") || response.contains(" LOST ")) {
+                        sessionIds[i] = null;
+                        if (measuring) {
+                            finishedGames.increment();
+                        }
+                    } else if (response.startsWith("ERR")) {
+                        errors.increment();
+                    }
+                }
+                if (measuring) {
+                    requests.add(sessionIds.length);
+                    if (sampleCount == samples.length) {
+                        samples = Arrays.copyOf(samples, sampleCount * 2);
+                    }
+                    samples[sampleCount++] = System.nanoTime() - roundStart;
+                }
+            }
+            roundTripSamples.add(Arrays.copyOf(samples, sampleCount));
+            writer.write("QUIT\n");
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            failedConnections.incrementAndGet();
+        } finally {
+            if (!counted) {
+                started.countDown();
+            }
+        }
+    }
+
+    private static String expectOk(String response) {
+        if (response == null || !response.startsWith("OK ")) {
+            throw new IllegalStateException("Неожиданный ответ сервера: " + response);
+        }
+        return response.substring(3);
+    }
+
+    private long[] mergeSamples() {
+        int total = 0;
+        for (long[] samples : roundTripSamples) {
+            total += samples.length;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (long[] samples : roundTripSamples) {
+            System.arraycopy(samples, 0, merged, offset, samples.length);
+            offset += samples.length;
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))];
+    }
+}
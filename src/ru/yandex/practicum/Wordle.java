@@ -1,15 +1,30 @@
 package ru.yandex.practicum;
 
-import java.io.PrintWriter;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class Wordle {
 
     public static void main(String[] args) {
-        try (PrintWriter logWriter = new PrintWriter("wordle.log", "UTF-8")) {
-            logWriter.println("=== ЗАПУСК ИГРЫ WORDLE ===");
-            runGame(logWriter);
-            logWriter.println("=== ИГРА ЗАВЕРШЕНA ===");
+        // Запись в файл идет в фоновом потоке, игровой цикл не ждет диск; лог прошлых запусков сохраняется
+        try (WordleLogger logger = WordleLogger.async(
+                new OutputStreamWriter(new FileOutputStream("wordle.log", true), StandardCharsets.UTF_8),
+                WordleLogLevel.INFO, 8192, WordleLogger.OverflowPolicy.DROP);
+             WordleJournal journal = new WordleJournal(Paths.get("journal"))) {
+            WordleMetrics.global().registerMBean();
+            // Ctrl+C не доходит до закрытия ресурсов в main, а писатели журнала и лога - демоны
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                closeOnShutdown(journal);
+                closeOnShutdown(logger);
+            }));
+            logger.info("=== ЗАПУСК ИГРЫ WORDLE ===");
+            runGame(logger, journal);
+            logger.info("=== ИГРА ЗАВЕРШЕНA ===");
         } catch (WordleSystemException e) {
             System.err.println("СИСТЕМНАЯ ОШИБКА: " + e.getMessage());
         } catch (WordleGameException e) {
@@ -19,12 +34,26 @@ public class Wordle {
         }
     }
 
-    private static void runGame(PrintWriter logWriter) {
+    private static void closeOnShutdown(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            System.err.println("Ошибка закрытия при остановке: " + e.getMessage());
+        }
+    }
+
+    private static void runGame(WordleLogger logger, WordleJournal journal) {
         try (Scanner scanner = new Scanner(System.in, "UTF-8")) {
-            WordleDictionaryLoader loader = new WordleDictionaryLoader(logWriter);
-            WordleDictionary dictionary = loader.loadDictionary("words_ru.txt");
+            WordleDictionaryLoader loader = new WordleDictionaryLoader(logger);
+            WordleDictionary dictionary = loader.loadDictionary("words_ru.txt",
+                    WordleDictionarySnapshot.defaultPath(Paths.get("words_ru.txt")));
 
-            WordleGame game = new WordleGame(dictionary, logWriter);
+            // Пул ответов необязателен: без него загадывается любое слово словаря
+            Path answersFile = Paths.get("answers_ru.txt");
+            String answer = Files.exists(answersFile)
+                    ? WordleAnswerPool.load(dictionary, answersFile, logger).sample() : null;
+            WordleGame game = new WordleGame(dictionary, logger, answer);
+            game.setJournal(journal);
 
             System.out.println("🎯 Добро пожаловать в Wordle!");
             System.out.println("У вас 6 попыток чтобы угадать 5-буквенное слово");
@@ -42,13 +71,13 @@ public class Wordle {
                 if (input.isEmpty()) {
                     String hint = game.generateHint();
                     System.out.println("💡 Подсказка: попробуйте слово - " + hint);
-                    logWriter.println("Пользователь запросил подсказку: " + hint);
+                    logger.info("Пользователь запросил подсказку: " + hint);
                     continue;
                 }
 
                 if (!isValidInput(input)) {
                     System.out.println("❌ Слово должно содержать только русские буквы и состоять из 5 символов!");
-                    logWriter.println("Пользователь ввел невалидное слово: " + input);
+                    logger.warn("Пользователь ввел невалидное слово: " + input);
                     continue;
                 }
 
@@ -59,8 +88,8 @@ public class Wordle {
                         throw new WordNotFoundInDictionaryException(normalizedGuess);
                     }
 
-                    String result = game.checkGuess(normalizedGuess);
-                    logWriter.println("Догадка: " + normalizedGuess + " -> " + result);
+                    String result = WordleFeedback.toString(game.checkGuess(normalizedGuess));
+                    logger.info("Догадка: " + normalizedGuess + " -> " + result);
 
                     System.out.println("📊 Результат:");
                     System.out.println("   Слово:    " + normalizedGuess);
@@ -68,20 +97,20 @@ public class Wordle {
 
                     if (game.isWordGuessed()) {
                         System.out.println("\n🎉 ПОЗДРАВЛЯЕМ! Вы угадали слово!");
-                        logWriter.println("Игра выиграна! Слово: " + normalizedGuess);
+                        logger.info("Игра выиграна! Слово: " + normalizedGuess);
                         break;
                     }
 
                 } catch (WordNotFoundInDictionaryException e) {
                     System.out.println("❌ " + e.getMessage());
-                    logWriter.println("Ошибка словаря: " + e.getMessage());
+                    logger.warn("Ошибка словаря: " + e.getMessage());
                 }
             }
 
             if (!game.isWordGuessed()) {
                 System.out.println("\n💀 ИГРА ОКОНЧЕНА!");
                 System.out.println("Загаданное слово было: " + game.getAnswer());
-                logWriter.println("Игра проиграна. Загаданное слово: " + game.getAnswer());
+                logger.info("Игра проиграна. Загаданное слово: " + game.getAnswer());
             }
 
             System.out.println("\n📈 Статистика игры:");
@@ -89,23 +118,16 @@ public class Wordle {
             System.out.println("   Слово: " + game.getAnswer());
 
         } catch (Exception e) {
-            logWriter.println("Ошибка в игровом цикле: " + e.getMessage());
+            logger.error("Ошибка в игровом цикле: " + e.getMessage());
             throw new WordleSystemException("Ошибка в игровом цикле", e);
         }
     }
 
     private static boolean isValidInput(String input) {
-        return input != null &&
-                input.length() == 5 &&
-                input.matches("[а-яёА-ЯЁ]+");
+        return WordleAlphabet.isValidWord(input);
     }
 
     public static String normalizeWord(String word) {
-        if (word == null) {
-            return null;
-        }
-        return word.trim()
-                .toLowerCase()
-                .replace('ё', 'е');
+        return WordleAlphabet.normalize(word);
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package ru.yandex.practicum;
+
+// Режим Absurdle: слово не загадано заранее. На каждую догадку игра отвечает паттерном самой
+// большой корзины оставшихся кандидатов, и игрок выигрывает, только когда кандидат остался один
+// и он его назвал. Число попыток не ограничено
+public class WordleAbsurdleGame {
+
+    private final WordleDictionary dictionary;
+    private final WordlePartitioner partitioner;
+    private final WordleLogger logger;
+    // Оставшиеся кандидаты; null - пока весь словарь
+    private WordlePartitioner.Bucket candidates;
+    private int usedAttempts;
+    private boolean wordGuessed;
+
+    public WordleAbsurdleGame(WordlePartitioner partitioner, WordleLogger logger) {
+        if (partitioner == null) {
+            throw new WordleSystemException("Разбиватель кандидатов не может быть null");
+        }
+        if (logger == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        this.dictionary = partitioner.getDictionary();
+        this.partitioner = partitioner;
+        this.logger = logger;
+    }
+
+    public int checkGuess(String guess) {
+        if (wordGuessed) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (guess == null) {
+            throw new WordNotFoundInDictionaryException("Слово не может быть null");
+        }
+
+        int wordId = dictionary.indexOfCode(WordleAlphabet.encodeTrimmed(guess));
+        if (wordId < 0) {
+            throw new WordNotFoundInDictionaryException(WordleAlphabet.normalize(guess));
+        }
+        return applyGuess(wordId);
+    }
+
+    public int checkGuessById(int wordId) {
+        if (wordGuessed) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (wordId < 0 || wordId >= dictionary.size()) {
+            throw new WordNotFoundInDictionaryException("#" + wordId);
+        }
+        return applyGuess(wordId);
+    }
+
+    private int applyGuess(int wordId) {
+        candidates = partitioner.partition(wordId, candidates);
+        usedAttempts++;
+        wordGuessed = candidates.getPattern() == WordleFeedback.ALL_CORRECT;
+
+        if (logger.isEnabled(WordleLogLevel.INFO)) {
+            logger.info("Absurdle: " + dictionary.getWord(wordId) + " -> " + WordleFeedback.toString(candidates.getPattern())
+                    + " (осталось кандидатов: " + candidates.size() + ")");
+        }
+        return candidates.getPattern();
+    }
+
+    public boolean isGameOver() {
+        return wordGuessed;
+    }
+
+    public boolean isWordGuessed() {
+        return wordGuessed;
+    }
+
+    public int getCandidateCount() {
+        return candidates == null ? dictionary.size() : candidates.size();
+    }
+
+    // Одно из слов, которые еще могли бы оказаться загаданными; после победы - само слово
+    public String getAnswer() {
+        return dictionary.getWord(candidates == null ? 0 : candidates.getWordId(0));
+    }
+
+    public int getUsedAttempts() {
+        return usedAttempts;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+}
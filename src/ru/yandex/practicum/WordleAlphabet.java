@@ -0,0 +1,150 @@
+package ru.yandex.practicum;
+
+public final class WordleAlphabet {
+
+    public static final int WORD_LENGTH = 5;
+    public static final int LETTER_COUNT = 32;
+    public static final int BITS_PER_LETTER = 6;
+    public static final int INVALID_WORD = -1;
+
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+    private static final String LETTERS = "абвгдежзийклмнопрстуфхцчшщъыьэюя";
+    private static final char CYRILLIC_START = '\u0400';
+    private static final char CYRILLIC_END = '\u045F';
+    // Код буквы для символов блока кириллицы U+0400..U+045F, -1 для всех остальных
+    private static final byte[] CODES = new byte[CYRILLIC_END - CYRILLIC_START + 1];
+
+    static {
+        java.util.Arrays.fill(CODES, (byte) -1);
+        for (int code = 0; code < LETTER_COUNT; code++) {
+            char lower = LETTERS.charAt(code);
+            CODES[lower - CYRILLIC_START] = (byte) code;
+            CODES[Character.toUpperCase(lower) - CYRILLIC_START] = (byte) code;
+        }
+        CODES['ё' - CYRILLIC_START] = (byte) LETTERS.indexOf('е');
+        CODES['Ё' - CYRILLIC_START] = (byte) LETTERS.indexOf('е');
+    }
+
+    private WordleAlphabet() {
+    }
+
+    public static String getLetters() {
+        return LETTERS;
+    }
+
+    public static int letterCode(char c) {
+        if (c < CYRILLIC_START || c > CYRILLIC_END) {
+            return -1;
+        }
+        return CODES[c - CYRILLIC_START];
+    }
+
+    public static char letter(int letterCode) {
+        return LETTERS.charAt(letterCode);
+    }
+
+    // Упаковывает 5-буквенное слово в int: буква i занимает биты [6 * i, 6 * i + 6)
+    public static int encode(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            return INVALID_WORD;
+        }
+        int wordCode = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letterCode = letterCode(word.charAt(i));
+            if (letterCode < 0) {
+                return INVALID_WORD;
+            }
+            wordCode |= letterCode << (BITS_PER_LETTER * i);
+        }
+        return wordCode;
+    }
+
+    // То же, что encode, но пробельные символы по краям слова пропускаются, как у String.trim
+    public static int encodeTrimmed(CharSequence word) {
+        if (word == null) {
+            return INVALID_WORD;
+        }
+        int start = trimStart(word);
+        int end = trimEnd(word, start);
+        if (end - start != WORD_LENGTH) {
+            return INVALID_WORD;
+        }
+        int wordCode = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letterCode = letterCode(word.charAt(start + i));
+            if (letterCode < 0) {
+                return INVALID_WORD;
+            }
+            wordCode |= letterCode << (BITS_PER_LETTER * i);
+        }
+        return wordCode;
+    }
+
+    // Пользовательский ввод: ровно 5 русских букв в любом регистре, без пробелов
+    public static boolean isValidWord(CharSequence word) {
+        return encode(word) != INVALID_WORD;
+    }
+
+    // Обрезка пробелов, нижний регистр и замена ё на е за один проход
+    public static String normalize(String word) {
+        if (word == null) {
+            return null;
+        }
+        int start = trimStart(word);
+        int end = trimEnd(word, start);
+
+        int firstChange = start;
+        while (firstChange < end && normalizeChar(word.charAt(firstChange)) == word.charAt(firstChange)) {
+            firstChange++;
+        }
+        if (firstChange == end) {
+            return start == 0 && end == word.length() ? word : word.substring(start, end);
+        }
+
+        char[] chars = new char[end - start];
+        word.getChars(start, firstChange, chars, 0);
+        for (int i = firstChange; i < end; i++) {
+            chars[i - start] = normalizeChar(word.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static char normalizeChar(char c) {
+        int code = letterCode(c);
+        if (code >= 0) {
+            return LETTERS.charAt(code);
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int trimStart(CharSequence word) {
+        int start = 0;
+        while (start < word.length() && word.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence word, int start) {
+        int end = word.length();
+        while (end > start && word.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    public static String decode(int wordCode) {
+        if (wordCode == INVALID_WORD) {
+            throw new WordleSystemException("Невозможно декодировать неверный код слова");
+        }
+        char[] chars = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            chars[i] = letter(letterAt(wordCode, i));
+        }
+        return new String(chars);
+    }
+
+    public static int letterAt(int wordCode, int position) {
+        return (wordCode >>> (BITS_PER_LETTER * position)) & LETTER_MASK;
+    }
+}
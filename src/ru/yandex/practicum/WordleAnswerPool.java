@@ -0,0 +1,189 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+// Загадываемые слова с частотными весами. Допустимые догадки по-прежнему весь словарь,
+// пул лишь сужает и взвешивает выбор ответа. Выборка за O(1) по таблице псевдонимов Уолкера
+public class WordleAnswerPool {
+
+    private final WordleDictionary dictionary;
+    private final int[] wordIds;
+    // Столбец i: с вероятностью threshold[i] выпадает wordIds[i], иначе wordIds[alias[i]]
+    private final double[] threshold;
+    private final int[] alias;
+
+    public WordleAnswerPool(WordleDictionary dictionary, int[] wordIds, double[] weights) {
+        if (dictionary == null || wordIds == null || weights == null) {
+            throw new WordleSystemException("Параметры пула ответов не могут быть null");
+        }
+        if (wordIds.length != weights.length) {
+            throw new WordleSystemException("Число слов и весов в пуле ответов не совпадает");
+        }
+
+        int size = 0;
+        double total = 0;
+        int[] ids = new int[wordIds.length];
+        double[] kept = new double[weights.length];
+        for (int i = 0; i < wordIds.length; i++) {
+            if (wordIds[i] < 0 || wordIds[i] >= dictionary.size()) {
+                throw new WordleSystemException("Неверный id слова в пуле ответов: " + wordIds[i]);
+            }
+            if (!(weights[i] >= 0) || Double.isInfinite(weights[i])) {
+                throw new WordleSystemException("Неверный вес слова " + dictionary.getWord(wordIds[i]) + ": " + weights[i]);
+            }
+            if (weights[i] > 0) {
+                ids[size] = wordIds[i];
+                kept[size] = weights[i];
+                total += weights[i];
+                size++;
+            }
+        }
+        if (size == 0) {
+            throw new WordleSystemException("Пул ответов пуст");
+        }
+
+        this.dictionary = dictionary;
+        this.wordIds = Arrays.copyOf(ids, size);
+        this.threshold = new double[size];
+        this.alias = new int[size];
+        buildAliasTable(Arrays.copyOf(kept, size), total);
+    }
+
+    // Формат файла: по слову на строку, через пробел необязательный вес (по умолчанию 1).
+    // Слова вне словаря, повторы и строки с неверным весом пропускаются
+    public static WordleAnswerPool load(WordleDictionary dictionary, Path file, WordleLogger logger) {
+        if (dictionary == null || file == null || logger == null) {
+            throw new WordleSystemException("Параметры пула ответов не могут быть null");
+        }
+
+        int[] ids = new int[dictionary.size()];
+        double[] weights = new double[dictionary.size()];
+        Set<Integer> seen = new HashSet<>();
+        int size = 0;
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts[0].isEmpty()) {
+                    continue;
+                }
+                int id = dictionary.indexOf(parts[0]);
+                double weight = parts.length > 1 ? parseWeight(parts[1]) : 1.0;
+                if (id < 0 || weight < 0 || parts.length > 2 || !seen.add(id)) {
+                    skipped++;
+                    continue;
+                }
+                ids[size] = id;
+                weights[size] = weight;
+                size++;
+            }
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка чтения пула ответов: " + e.getMessage(), e);
+        }
+
+        logger.info("Пул ответов загружен из " + file + ", слов: " + size);
+        if (skipped > 0) {
+            logger.warn("Пропущено строк пула ответов: " + skipped);
+        }
+        return new WordleAnswerPool(dictionary, Arrays.copyOf(ids, size), Arrays.copyOf(weights, size));
+    }
+
+    private static double parseWeight(String value) {
+        try {
+            double weight = Double.parseDouble(value);
+            return Double.isFinite(weight) ? weight : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Алгоритм Возе: столбцы с долей меньше средней добираются из столбцов с избытком
+    private void buildAliasTable(double[] weights, double total) {
+        int n = weights.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Остатки равны единице с точностью до округления
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            threshold[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            threshold[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    public int sampleId(RandomGenerator random) {
+        if (random == null) {
+            throw new WordleSystemException("Генератор случайных чисел не может быть null");
+        }
+        int column = random.nextInt(wordIds.length);
+        return random.nextDouble() < threshold[column] ? wordIds[column] : wordIds[alias[column]];
+    }
+
+    public String sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    public String sample(RandomGenerator random) {
+        return dictionary.getWord(sampleId(random));
+    }
+
+    public int size() {
+        return wordIds.length;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    // Вероятность слова, заложенная в таблицу; нужна для проверки построения
+    double probabilityOf(int wordId) {
+        double probability = 0;
+        for (int column = 0; column < wordIds.length; column++) {
+            if (wordIds[column] == wordId) {
+                probability += threshold[column];
+            }
+            if (wordIds[alias[column]] == wordId) {
+                probability += 1.0 - threshold[column];
+            }
+        }
+        return probability / wordIds.length;
+    }
+}
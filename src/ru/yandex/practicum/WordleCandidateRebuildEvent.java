@@ -0,0 +1,17 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.CandidateRebuild")
+@Label("Перестроение кэша подсказок")
+@Category("Wordle")
+class WordleCandidateRebuildEvent extends jdk.jfr.Event {
+
+    @Label("Сделано догадок")
+    int attempt;
+
+    @Label("Найдено кандидатов")
+    int candidates;
+}
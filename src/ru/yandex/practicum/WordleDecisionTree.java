@@ -0,0 +1,144 @@
+package ru.yandex.practicum;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class WordleDecisionTree {
+
+    static final int MAGIC = 0x57445452; // "WDTR"
+    static final int VERSION = 1;
+
+    // Узлы и ребра дерева в плоских массивах; ребра узла идут подряд и отсортированы по паттерну
+    private final int[] nodeGuess;
+    private final int[] firstEdge;
+    private final int[] edgeCount;
+    private final int[] edgePattern;
+    private final int[] edgeTarget;
+    private final long dictionaryChecksum;
+
+    private WordleDecisionTree(int[] nodeGuess, int[] firstEdge, int[] edgeCount,
+                               int[] edgePattern, int[] edgeTarget, long dictionaryChecksum) {
+        this.nodeGuess = nodeGuess;
+        this.firstEdge = firstEdge;
+        this.edgeCount = edgeCount;
+        this.edgePattern = edgePattern;
+        this.edgeTarget = edgeTarget;
+        this.dictionaryChecksum = dictionaryChecksum;
+    }
+
+    public static WordleDecisionTree load(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new WordleSystemException("Неверный формат файла дерева решений: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new WordleSystemException("Неподдерживаемая версия дерева решений: " + version);
+            }
+            long checksum = in.readLong();
+            int nodeCount = in.readInt();
+            if (nodeCount <= 0) {
+                throw new WordleSystemException("Пустое дерево решений: " + file);
+            }
+
+            Reader reader = new Reader(in, nodeCount, checksum);
+            reader.readNode();
+            return reader.toTree();
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка чтения дерева решений: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean matches(WordleDictionary dictionary) {
+        return dictionaryChecksum == dictionary.getChecksum();
+    }
+
+    // Следующая догадка по истории игры или -1, если игра ушла с известных веток
+    public int lookup(int[] guessIds, int[] patterns, int length) {
+        int node = 0;
+        for (int step = 0; step < length; step++) {
+            if (nodeGuess[node] != guessIds[step]) {
+                return -1;
+            }
+            node = child(node, patterns[step]);
+            if (node < 0) {
+                return -1;
+            }
+        }
+        return nodeGuess[node];
+    }
+
+    public int getRootGuess() {
+        return nodeGuess[0];
+    }
+
+    public int getNodeCount() {
+        return nodeGuess.length;
+    }
+
+    private int child(int node, int pattern) {
+        int from = firstEdge[node];
+        int index = Arrays.binarySearch(edgePattern, from, from + edgeCount[node], pattern);
+        return index < 0 ? -1 : edgeTarget[index];
+    }
+
+    private static final class Reader {
+        private final DataInput in;
+        private final long checksum;
+        private final int[] nodeGuess;
+        private final int[] firstEdge;
+        private final int[] edgeCount;
+        private final int[] edgePattern;
+        private final int[] edgeTarget;
+        private int nodes;
+        private int edges;
+
+        Reader(DataInput in, int nodeCount, long checksum) {
+            this.in = in;
+            this.checksum = checksum;
+            this.nodeGuess = new int[nodeCount];
+            this.firstEdge = new int[nodeCount];
+            this.edgeCount = new int[nodeCount];
+            // У каждого узла, кроме корня, ровно одно входящее ребро
+            this.edgePattern = new int[nodeCount - 1];
+            this.edgeTarget = new int[nodeCount - 1];
+        }
+
+        int readNode() throws IOException {
+            if (nodes == nodeGuess.length) {
+                throw new WordleSystemException("Дерево решений содержит больше узлов, чем указано в заголовке");
+            }
+            int node = nodes++;
+            nodeGuess[node] = in.readInt();
+            int children = in.readUnsignedByte();
+            if (edges + children > edgePattern.length) {
+                throw new WordleSystemException("Дерево решений содержит больше ребер, чем узлов");
+            }
+            firstEdge[node] = edges;
+            edgeCount[node] = children;
+            edges += children;
+
+            int previousPattern = -1;
+            for (int i = 0; i < children; i++) {
+                int edge = firstEdge[node] + i;
+                int pattern = in.readUnsignedByte();
+                if (pattern <= previousPattern || pattern >= WordleFeedback.PATTERN_COUNT) {
+                    throw new WordleSystemException("Ребра дерева решений не отсортированы по паттерну");
+                }
+                previousPattern = pattern;
+                edgePattern[edge] = pattern;
+                edgeTarget[edge] = readNode();
+            }
+            return node;
+        }
+
+        WordleDecisionTree toTree() {
+            if (nodes != nodeGuess.length) {
+                throw new WordleSystemException("Дерево решений короче, чем указано в заголовке");
+            }
+            return new WordleDecisionTree(nodeGuess, firstEdge, edgeCount, edgePattern, edgeTarget, checksum);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package ru.yandex.practicum;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Дерево строится эвристически, а не оптимально: на первых lookaheadDepth уровнях перебираются breadth
+// лучших по энтропии догадок, ниже - одна. На words_ru.txt (4143 слова) при ширине 3 и глубине 1 выходит
+// 3.6937 попытки в среднем; ширина 10 на двух уровнях дает 3.6824 (на 0.3% лучше, но в 50 раз дольше).
+// Точный оптимум полным перебором не посчитать даже для 60 слов, поэтому разрыв с ним не измерен
+public class WordleDecisionTreeBuilder {
+
+    // Длиннее такой цепочки догадок дерево не строится: игра все равно закончится раньше
+    private static final int MAX_DEPTH = 12;
+    private static final int CHECKPOINT_MAGIC = 0x57444350; // "WDCP"
+
+    private final WordleDictionary dictionary;
+    private final WordleFeedbackMatrix matrix;
+    private final int breadth;
+    private final int lookaheadDepth;
+    private final ForkJoinPool pool;
+    private final WordleLogger logger;
+
+    public WordleDecisionTreeBuilder(WordleDictionary dictionary, WordleFeedbackMatrix matrix,
+                                     int breadth, int lookaheadDepth, ForkJoinPool pool, WordleLogger logger) {
+        if (dictionary == null || matrix == null || pool == null || logger == null) {
+            throw new WordleSystemException("Параметры построителя дерева не могут быть null");
+        }
+        if (!matrix.matches(dictionary)) {
+            throw new WordleSystemException("Матрица паттернов построена для другого словаря");
+        }
+        if (breadth < 1) {
+            throw new WordleSystemException("Ширина перебора должна быть положительной: " + breadth);
+        }
+        this.dictionary = dictionary;
+        this.matrix = matrix;
+        this.breadth = breadth;
+        this.lookaheadDepth = lookaheadDepth;
+        this.pool = pool;
+        this.logger = logger;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Использование: WordleDecisionTreeBuilder <словарь> <матрица> <дерево> "
+                    + "[каталог контрольных точек] [ширина] [глубина перебора]");
+            return;
+        }
+        try (WordleLogger logger = WordleLogger.synchronous(
+                new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true), WordleLogLevel.INFO)) {
+            WordleDictionary dictionary = new WordleDictionaryLoader(logger).loadDictionary(args[0]);
+            WordleFeedbackMatrix matrix = WordleFeedbackMatrix.loadOrBuild(dictionary, Paths.get(args[1]), logger);
+            Path checkpointDir = args.length > 3 ? Paths.get(args[3]) : null;
+            int breadth = args.length > 4 ? Integer.parseInt(args[4]) : 3;
+            int lookahead = args.length > 5 ? Integer.parseInt(args[5]) : 1;
+
+            WordleDecisionTreeBuilder builder = new WordleDecisionTreeBuilder(
+                    dictionary, matrix, breadth, lookahead, ForkJoinPool.commonPool(), logger);
+            builder.build(Paths.get(args[2]), checkpointDir);
+        }
+    }
+
+    public Node build(Path treeFile, Path checkpointDir) {
+        long start = System.nanoTime();
+        int[] all = IntStream.range(0, dictionary.size()).toArray();
+
+        Node best = null;
+        for (int guessId : rankGuesses(all, 0)) {
+            Node root = buildRoot(guessId, all, checkpointDir);
+            logger.info("Корневая догадка " + dictionary.getWord(guessId)
+                    + ": в среднем " + format(root.cost, all.length) + " попыток");
+            if (best == null || root.cost < best.cost) {
+                best = root;
+            }
+        }
+
+        write(best, treeFile);
+        logger.info("Дерево решений построено за " + (System.nanoTime() - start) / 1_000_000 + " мс: корень "
+                + dictionary.getWord(best.guessId) + ", в среднем " + format(best.cost, all.length)
+                + " попыток, узлов " + best.size());
+        return best;
+    }
+
+    private Node buildRoot(int guessId, int[] candidates, Path checkpointDir) {
+        int[][] buckets = partition(guessId, candidates);
+        Node[] children = new Node[WordleFeedback.PATTERN_COUNT];
+
+        // Поддеревья корня независимы: строим их параллельно и сохраняем готовые как контрольные точки
+        pool.submit(() -> IntStream.range(0, WordleFeedback.ALL_CORRECT).parallel()
+                .filter(pattern -> buckets[pattern] != null)
+                .forEach(pattern -> children[pattern] = checkpointed(guessId, pattern, buckets[pattern], checkpointDir)))
+                .join();
+
+        return assemble(guessId, candidates.length, buckets, children);
+    }
+
+    private Node checkpointed(int rootGuess, int pattern, int[] candidates, Path checkpointDir) {
+        if (checkpointDir == null) {
+            return buildNode(candidates, 1);
+        }
+        Path part = checkpointDir.resolve(rootGuess + "-" + pattern + ".part");
+        if (Files.exists(part)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(part)))) {
+                if (readCheckpointHeader(in)) {
+                    Node node = readNode(in);
+                    node.cost = evaluate(node, candidates);
+                    if (node.cost > 0) {
+                        return node;
+                    }
+                    logger.warn("Контрольная точка повреждена, пересборка: " + part);
+                } else {
+                    logger.warn("Контрольная точка от сборки с другим словарем или параметрами, пересборка: " + part);
+                }
+            } catch (IOException | WordleSystemException e) {
+                // файл не читается - строим поддерево заново
+                logger.warn("Контрольная точка повреждена, пересборка: " + part);
+            }
+        }
+
+        Node node = buildNode(candidates, 1);
+        try {
+            Files.createDirectories(checkpointDir);
+            Path temp = checkpointDir.resolve(part.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeCheckpointHeader(out);
+                writeNode(out, node);
+            }
+            Files.move(temp, part, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new WordleSystemException("Не удалось сохранить контрольную точку: " + e.getMessage(), e);
+        }
+        return node;
+    }
+
+    private Node buildNode(int[] candidates, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new WordleSystemException("Превышена глубина дерева решений");
+        }
+        if (candidates.length == 1) {
+            return new Node(candidates[0], 1, new int[0], new Node[0]);
+        }
+
+        Node best = null;
+        for (int guessId : rankGuesses(candidates, depth)) {
+            int[][] buckets = partition(guessId, candidates);
+            Node[] children = new Node[WordleFeedback.PATTERN_COUNT];
+            for (int pattern = 0; pattern < WordleFeedback.ALL_CORRECT; pattern++) {
+                if (buckets[pattern] != null) {
+                    children[pattern] = buildNode(buckets[pattern], depth + 1);
+                }
+            }
+            Node node = assemble(guessId, candidates.length, buckets, children);
+            if (best == null || node.cost < best.cost) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    private Node assemble(int guessId, int candidateCount, int[][] buckets, Node[] children) {
+        int childCount = 0;
+        for (int pattern = 0; pattern < WordleFeedback.ALL_CORRECT; pattern++) {
+            if (buckets[pattern] != null) childCount++;
+        }
+        int[] patterns = new int[childCount];
+        Node[] nodes = new Node[childCount];
+        long cost = candidateCount;
+        int i = 0;
+        for (int pattern = 0; pattern < WordleFeedback.ALL_CORRECT; pattern++) {
+            if (buckets[pattern] != null) {
+                patterns[i] = pattern;
+                nodes[i] = children[pattern];
+                cost += children[pattern].cost;
+                i++;
+            }
+        }
+        return new Node(guessId, cost, patterns, nodes);
+    }
+
+    private int[][] partition(int guessId, int[] candidates) {
+        int[] counts = new int[WordleFeedback.PATTERN_COUNT];
+        for (int answerId : candidates) {
+            counts[matrix.getPattern(guessId, answerId)]++;
+        }
+        int[][] buckets = new int[WordleFeedback.PATTERN_COUNT][];
+        for (int pattern = 0; pattern < WordleFeedback.PATTERN_COUNT; pattern++) {
+            if (counts[pattern] > 0 && pattern != WordleFeedback.ALL_CORRECT) {
+                buckets[pattern] = new int[counts[pattern]];
+                counts[pattern] = 0;
+            }
+        }
+        for (int answerId : candidates) {
+            int pattern = matrix.getPattern(guessId, answerId);
+            if (pattern != WordleFeedback.ALL_CORRECT) {
+                buckets[pattern][counts[pattern]++] = answerId;
+            }
+        }
+        return buckets;
+    }
+
+    // Лучшие по энтропии догадки: несколько на верхних уровнях, одна глубже
+    private int[] rankGuesses(int[] candidates, int depth) {
+        if (candidates.length <= 2) {
+            return new int[]{candidates[0]};
+        }
+        int keep = depth < lookaheadDepth ? breadth : 1;
+        boolean[] isCandidate = new boolean[dictionary.size()];
+        for (int id : candidates) isCandidate[id] = true;
+
+        int[] bestIds = new int[keep];
+        double[] bestWeights = new double[keep];
+        Arrays.fill(bestIds, -1);
+        Arrays.fill(bestWeights, Double.MAX_VALUE);
+        int[] counts = new int[WordleFeedback.PATTERN_COUNT];
+
+        for (int guessId = 0; guessId < dictionary.size(); guessId++) {
+            Arrays.fill(counts, 0);
+            for (int answerId : candidates) {
+                counts[matrix.getPattern(guessId, answerId)]++;
+            }
+            if (counts[WordleFeedback.ALL_CORRECT] == 0 && isSingleBucket(counts, candidates.length)) {
+                continue; // догадка не разделяет кандидатов
+            }
+            double weight = 0;
+            for (int count : counts) {
+                if (count > 1) weight += count * Math.log(count);
+            }
+            // Слово-кандидат может сразу оказаться ответом, при равном разбиении оно лучше
+            weight -= isCandidate[guessId] ? 1e-9 : 0;
+
+            for (int slot = 0; slot < keep; slot++) {
+                if (weight < bestWeights[slot]) {
+                    System.arraycopy(bestWeights, slot, bestWeights, slot + 1, keep - slot - 1);
+                    System.arraycopy(bestIds, slot, bestIds, slot + 1, keep - slot - 1);
+                    bestWeights[slot] = weight;
+                    bestIds[slot] = guessId;
+                    break;
+                }
+            }
+        }
+
+        int found = 0;
+        while (found < keep && bestIds[found] >= 0) found++;
+        return Arrays.copyOf(bestIds, found);
+    }
+
+    private static boolean isSingleBucket(int[] counts, int total) {
+        for (int count : counts) {
+            if (count == total) return true;
+        }
+        return false;
+    }
+
+    private void write(Node root, Path treeFile) {
+        Path temp = treeFile.resolveSibling(treeFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(WordleDecisionTree.MAGIC);
+            out.writeInt(WordleDecisionTree.VERSION);
+            out.writeLong(dictionary.getChecksum());
+            out.writeInt(root.size());
+            writeNode(out, root);
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка записи дерева решений: " + e.getMessage(), e);
+        }
+        try {
+            Files.move(temp, treeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new WordleSystemException("Не удалось сохранить дерево решений: " + e.getMessage(), e);
+        }
+    }
+
+    // Поддерево годится только для той же сборки: словарь (матрица привязана к нему же), ширина и
+    // глубина перебора. Иначе продолжение с чужого каталога склеило бы дерево из разных построений
+    private void writeCheckpointHeader(DataOutput out) throws IOException {
+        out.writeInt(CHECKPOINT_MAGIC);
+        out.writeInt(WordleDecisionTree.VERSION);
+        out.writeLong(dictionary.getChecksum());
+        out.writeInt(dictionary.size());
+        out.writeInt(breadth);
+        out.writeInt(lookaheadDepth);
+    }
+
+    private boolean readCheckpointHeader(DataInput in) throws IOException {
+        if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != WordleDecisionTree.VERSION) {
+            throw new WordleSystemException("Неверный формат контрольной точки");
+        }
+        return in.readLong() == dictionary.getChecksum()
+                && in.readInt() == dictionary.size()
+                && in.readInt() == breadth
+                && in.readInt() == lookaheadDepth;
+    }
+
+    // Узел в прямом порядке: id догадки, число детей, затем для каждого ребенка паттерн и поддерево
+    private static void writeNode(DataOutput out, Node node) throws IOException {
+        out.writeInt(node.guessId);
+        out.writeByte(node.patterns.length);
+        for (int i = 0; i < node.patterns.length; i++) {
+            out.writeByte(node.patterns[i]);
+            writeNode(out, node.children[i]);
+        }
+    }
+
+    private Node readNode(DataInput in) throws IOException {
+        int guessId = in.readInt();
+        if (guessId < 0 || guessId >= dictionary.size()) {
+            throw new WordleSystemException("Неверный id слова в контрольной точке: " + guessId);
+        }
+        int childCount = in.readUnsignedByte();
+        int[] patterns = new int[childCount];
+        Node[] children = new Node[childCount];
+        for (int i = 0; i < childCount; i++) {
+            patterns[i] = in.readUnsignedByte();
+            children[i] = readNode(in);
+        }
+        return new Node(guessId, 0, patterns, children);
+    }
+
+    // Сумма попыток по ответам при игре по поддереву или -1, если какой-то ответ не достижим
+    private long evaluate(Node root, int[] candidates) {
+        long cost = 0;
+        for (int answerId : candidates) {
+            Node node = root;
+            int depth = 1;
+            while (node != null) {
+                int pattern = matrix.getPattern(node.guessId, answerId);
+                if (pattern == WordleFeedback.ALL_CORRECT) {
+                    break;
+                }
+                int index = Arrays.binarySearch(node.patterns, pattern);
+                node = index < 0 ? null : node.children[index];
+                depth++;
+            }
+            if (node == null || depth > MAX_DEPTH) {
+                return -1;
+            }
+            cost += depth;
+        }
+        return cost;
+    }
+
+    private static String format(long cost, int answers) {
+        return String.format("%.4f", (double) cost / answers);
+    }
+
+    public static final class Node {
+        final int guessId;
+        final int[] patterns;
+        final Node[] children;
+        // Сумма числа попыток по всем ответам поддерева
+        long cost;
+
+        Node(int guessId, long cost, int[] patterns, Node[] children) {
+            this.guessId = guessId;
+            this.cost = cost;
+            this.patterns = patterns;
+            this.children = children;
+        }
+
+        public int getGuessId() {
+            return guessId;
+        }
+
+        public long getCost() {
+            return cost;
+        }
+
+        public int size() {
+            int size = 1;
+            for (Node child : children) size += child.size();
+            return size;
+        }
+    }
+}
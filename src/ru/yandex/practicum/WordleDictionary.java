@@ -2,59 +2,217 @@ package ru.yandex.practicum;
 
 import java.io.PrintWriter;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.zip.CRC32;
 
+// Неизменяем после создания, один экземпляр разделяется всеми играми и потоками
 public class WordleDictionary {
 
-    private final List<String> words;
-    private final Random random;
-    private final PrintWriter logWriter;
+    private static final int EMPTY_SLOT = -1;
+
+    // Слова хранятся упакованными кодами WordleAlphabet, id слова - индекс в этом массиве
+    private final int[] wordCodes;
+    // Открытая адресация: в ячейках хранятся id слов, EMPTY_SLOT - свободная ячейка
+    private final int[] index;
+    private final int indexMask;
+    private final WordleLetterIndex letterIndex;
+    private final long checksum;
+    private final WordleLogger logger;
 
     public WordleDictionary(List<String> words, PrintWriter logWriter) {
-        if (words == null) {
+        this(encodeWords(words), WordleLogger.synchronous(logWriter));
+    }
+
+    public WordleDictionary(List<String> words, WordleLogger logger) {
+        this(encodeWords(words), logger);
+    }
+
+    private WordleDictionary(int[] wordCodes, WordleLogger logger) {
+        if (wordCodes == null) {
             throw new WordleSystemException("Список слов не может быть null");
         }
-        if (logWriter == null) {
+        if (logger == null) {
             throw new WordleSystemException("Логгер не может быть null");
         }
 
-        this.words = new ArrayList<>(words);
-        this.random = new Random();
-        this.logWriter = logWriter;
+        int[] codes = wordCodes.clone();
+        this.logger = logger;
+
+        logger.info("Словарь создан, слов: " + codes.length);
 
-        logWriter.println("Словарь создан, слов: " + words.size());
+        int capacity = tableCapacity(codes.length);
+        this.index = new int[capacity];
+        this.indexMask = capacity - 1;
+        Arrays.fill(index, EMPTY_SLOT);
 
-        if (this.words.isEmpty()) {
+        // Сжимаем массив на месте: некорректные слова и дубликаты не получают id
+        int size = 0;
+        for (int i = 0; i < codes.length; i++) {
+            int code = codes[i];
+            if (code != WordleAlphabet.INVALID_WORD && indexOfCode(code, codes) < 0) {
+                codes[size] = code;
+                addToIndex(size, codes);
+                size++;
+            }
+        }
+        this.wordCodes = Arrays.copyOf(codes, size);
+        this.letterIndex = new WordleLetterIndex(wordCodes);
+        this.checksum = computeChecksum(wordCodes);
+
+        if (size < codes.length) {
+            logger.warn("Пропущено некорректных слов и дубликатов: " + (codes.length - size));
+        }
+        if (this.wordCodes.length == 0) {
             throw new WordleSystemException("Передан пустой список слов в словарь");
         }
     }
 
+    public static WordleDictionary fromCodes(int[] wordCodes, WordleLogger logger) {
+        return new WordleDictionary(wordCodes, logger);
+    }
+
+    private static int[] encodeWords(List<String> words) {
+        if (words == null) {
+            throw new WordleSystemException("Список слов не может быть null");
+        }
+        int[] codes = new int[words.size()];
+        for (int i = 0; i < codes.length; i++) {
+            String word = words.get(i);
+            codes[i] = WordleAlphabet.encodeTrimmed(word);
+        }
+        return codes;
+    }
+
     public boolean contains(String word) {
-        if (word == null) return false;
-        String normalized = normalizeWord(word);
-        return words.contains(normalized);
+        return indexOf(word) >= 0;
+    }
+
+    public boolean containsCode(int wordCode) {
+        return indexOfCode(wordCode) >= 0;
+    }
+
+    public int indexOf(String word) {
+        return indexOfCode(WordleAlphabet.encodeTrimmed(word));
+    }
+
+    public int indexOfCode(int wordCode) {
+        return indexOfCode(wordCode, wordCodes);
+    }
+
+    public int size() {
+        return wordCodes.length;
+    }
+
+    public String getWord(int wordId) {
+        return WordleAlphabet.decode(getWordCode(wordId));
     }
 
+    public int[] getWordCodes() {
+        return wordCodes.clone();
+    }
+
+    public int getWordCode(int wordId) {
+        if (wordId < 0 || wordId >= wordCodes.length) {
+            throw new WordleSystemException("Неверный id слова: " + wordId);
+        }
+        return wordCodes[wordId];
+    }
+
+    // Общий java.util.Random упирается в CAS одного seed при одновременном создании игр
     public String getRandomWord() {
-        if (words.isEmpty()) {
+        return getRandomWord(ThreadLocalRandom.current());
+    }
+
+    public String getRandomWord(RandomGenerator random) {
+        if (random == null) {
+            throw new WordleSystemException("Генератор случайных чисел не может быть null");
+        }
+        if (wordCodes.length == 0) {
             throw new WordleSystemException("Попытка получить слово из пустого словаря");
         }
-        String word = words.get(random.nextInt(words.size()));
-        logWriter.println("Выбрано случайное слово: " + word);
+        String word = getWord(random.nextInt(wordCodes.length));
+        logger.debug(() -> "Выбрано случайное слово: " + word);
         return word;
     }
 
     public List<String> getWords() {
-        return new ArrayList<>(words);
+        List<String> words = new ArrayList<>(wordCodes.length);
+        for (int code : wordCodes) {
+            words.add(WordleAlphabet.decode(code));
+        }
+        return words;
     }
 
     public List<String> getFilteredWords(WordleHintFilter filter) {
-        return words.stream()
-                .filter(filter::matches)
-                .collect(Collectors.toList());
+        long[] matching = getFilteredIds(filter);
+        List<String> filtered = new ArrayList<>(WordleLetterIndex.cardinality(matching));
+        for (int id = WordleLetterIndex.nextSetBit(matching, 0); id >= 0;
+             id = WordleLetterIndex.nextSetBit(matching, id + 1)) {
+            filtered.add(WordleAlphabet.decode(wordCodes[id]));
+        }
+        return filtered;
+    }
+
+    public long[] getFilteredIds(WordleHintFilter filter) {
+        long start = System.nanoTime();
+        long[] matching = filter.compile(letterIndex);
+        WordleMetrics.global().recordFilteredWords(System.nanoTime() - start);
+        return matching;
+    }
+
+    public WordleLetterIndex getLetterIndex() {
+        return letterIndex;
+    }
+
+    // Контрольная сумма набора и порядка слов: по ней сверяются построенные по словарю файлы
+    public long getChecksum() {
+        return checksum;
+    }
+
+    private static long computeChecksum(int[] codes) {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[4];
+        for (int code : codes) {
+            buffer[0] = (byte) (code >>> 24);
+            buffer[1] = (byte) (code >>> 16);
+            buffer[2] = (byte) (code >>> 8);
+            buffer[3] = (byte) code;
+            crc.update(buffer);
+        }
+        return (crc.getValue() << 32) | codes.length;
+    }
+
+    private int indexOfCode(int wordCode, int[] codes) {
+        if (wordCode == WordleAlphabet.INVALID_WORD) return -1;
+        int slot = mix(wordCode) & indexMask;
+        while (index[slot] != EMPTY_SLOT) {
+            int id = index[slot];
+            if (codes[id] == wordCode) {
+                return id;
+            }
+            slot = (slot + 1) & indexMask;
+        }
+        return -1;
+    }
+
+    private void addToIndex(int id, int[] codes) {
+        int slot = mix(codes[id]) & indexMask;
+        while (index[slot] != EMPTY_SLOT) {
+            slot = (slot + 1) & indexMask;
+        }
+        index[slot] = id;
+    }
+
+    private static int tableCapacity(int size) {
+        // Заполненность таблицы не больше 50%, чтобы цепочки проб оставались короткими
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        return Math.max(capacity, 16);
     }
 
-    private String normalizeWord(String word) {
-        return word.toLowerCase().replace('ё', 'е').trim();
+    private static int mix(int hash) {
+        // Коды похожих слов отличаются в отдельных 6-битных полях, перемешиваем их по всему int
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.DictionaryLoad")
+@Label("Загрузка словаря")
+@Category("Wordle")
+@Description("Загрузка словаря из текстового файла или бинарного снимка")
+class WordleDictionaryLoadEvent extends jdk.jfr.Event {
+
+    @Label("Файл")
+    String file;
+
+    @Label("Прочитано строк")
+    @Description("0, если словарь взят из снимка")
+    int linesRead;
+
+    @Label("Слов в словаре")
+    int wordsKept;
+
+    @Label("Из снимка")
+    boolean fromSnapshot;
+}
@@ -2,22 +2,58 @@ package ru.yandex.practicum;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
 public class WordleDictionaryLoader {
 
-    private final PrintWriter logWriter;
+    private final WordleLogger logger;
 
     public WordleDictionaryLoader(PrintWriter logWriter) {
-        if (logWriter == null) {
+        this(WordleLogger.synchronous(logWriter));
+    }
+
+    public WordleDictionaryLoader(WordleLogger logger) {
+        if (logger == null) {
             throw new WordleSystemException("Логгер не может быть null");
         }
-        this.logWriter = logWriter;
+        this.logger = logger;
     }
 
     public WordleDictionary loadDictionary(String filename) {
+        long start = System.nanoTime();
+        WordleDictionaryLoadEvent event = new WordleDictionaryLoadEvent();
+        event.begin();
+        WordleDictionary dictionary = readDictionary(filename, event);
+        commitLoadEvent(event, filename, dictionary);
+        WordleMetrics.global().recordLoadDictionary(System.nanoTime() - start);
+        return dictionary;
+    }
+
+    // Загрузка через бинарный снимок: текстовый файл разбирается, только если снимок устарел
+    public WordleDictionary loadDictionary(String filename, Path snapshotFile) {
+        long start = System.nanoTime();
+        WordleDictionaryLoadEvent event = new WordleDictionaryLoadEvent();
+        event.begin();
+        WordleDictionary dictionary = readDictionary(filename, snapshotFile, event);
+        commitLoadEvent(event, filename, dictionary);
+        WordleMetrics.global().recordLoadDictionary(System.nanoTime() - start);
+        return dictionary;
+    }
+
+    private static void commitLoadEvent(WordleDictionaryLoadEvent event, String filename, WordleDictionary dictionary) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = filename;
+            event.wordsKept = dictionary.size();
+            event.commit();
+        }
+    }
+
+    private WordleDictionary readDictionary(String filename, WordleDictionaryLoadEvent event) {
         if (filename == null || filename.trim().isEmpty()) {
             throw new WordleSystemException("Имя файла не может быть пустым");
         }
@@ -28,26 +64,31 @@ public class WordleDictionaryLoader {
         }
 
         Set<String> uniqueWords = new HashSet<>();
-        logWriter.println("Загрузка словаря из файла: " + filename);
+        logger.info("Загрузка словаря из файла: " + filename);
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(new FileInputStream(filename), StandardCharsets.UTF_8))) {
 
             String line;
             int loadedWords = 0;
+            int linesRead = 0;
 
             while ((line = reader.readLine()) != null) {
-                String formattedWord = formatWord(line.trim());
-                if (!formattedWord.isEmpty() && formattedWord.length() == 5 && uniqueWords.add(formattedWord)) {
+                linesRead++;
+                String formattedWord = formatWord(line);
+                if (!formattedWord.isEmpty() && uniqueWords.add(formattedWord)) {
                     loadedWords++;
                 }
             }
+            if (event.isEnabled()) {
+                event.linesRead = linesRead;
+            }
 
             if (uniqueWords.isEmpty()) {
                 throw new WordleSystemException("Словарь пуст или не содержит 5-буквенных слов");
             }
 
-            logWriter.println("Успешно загружено " + loadedWords + " уникальных слов");
+            logger.info("Успешно загружено " + loadedWords + " уникальных слов");
 
         } catch (FileNotFoundException e) {
             throw new WordleSystemException("Файл словаря не найден: " + filename, e);
@@ -55,15 +96,50 @@ public class WordleDictionaryLoader {
             throw new WordleSystemException("Ошибка чтения файла словаря: " + e.getMessage(), e);
         }
 
-        return new WordleDictionary(new ArrayList<>(uniqueWords), logWriter);
+        return new WordleDictionary(new ArrayList<>(uniqueWords), logger);
+    }
+
+    private WordleDictionary readDictionary(String filename, Path snapshotFile, WordleDictionaryLoadEvent event) {
+        if (filename == null || filename.trim().isEmpty()) {
+            throw new WordleSystemException("Имя файла не может быть пустым");
+        }
+        if (snapshotFile == null) {
+            return readDictionary(filename, event);
+        }
+
+        Path sourceFile = Paths.get(filename);
+        if (!sourceFile.toFile().exists()) {
+            throw new WordleSystemException("Файл словаря не найден: " + filename);
+        }
+
+        long sourceHash = WordleDictionarySnapshot.sourceHash(sourceFile);
+        int[] codes = WordleDictionarySnapshot.read(snapshotFile, sourceHash);
+        if (codes != null && codes.length > 0) {
+            if (event.isEnabled()) {
+                event.fromSnapshot = true;
+            }
+            logger.info("Загрузка словаря из снимка: " + snapshotFile);
+            logger.info("Успешно загружено " + codes.length + " уникальных слов");
+            return WordleDictionary.fromCodes(codes, logger);
+        }
+
+        logger.info("Снимок словаря отсутствует или устарел: " + snapshotFile);
+        WordleDictionary dictionary = readDictionary(filename, event);
+        try {
+            WordleDictionarySnapshot.write(snapshotFile, sourceHash, dictionary.getWordCodes());
+            logger.info("Снимок словаря сохранен: " + snapshotFile);
+        } catch (WordleSystemException e) {
+            logger.warn("Не удалось сохранить снимок словаря: " + e.getMessage());
+        }
+        return dictionary;
     }
 
+    // Пустая строка для всего, что не является 5-буквенным русским словом
     private String formatWord(String word) {
-        if (word == null) return "";
-        String normalized = word.toLowerCase().replace('ё', 'е').trim();
-        if (!normalized.matches("[а-яё]+")) {
+        int wordCode = WordleAlphabet.encodeTrimmed(word);
+        if (wordCode == WordleAlphabet.INVALID_WORD) {
             return "";
         }
-        return normalized;
+        return WordleAlphabet.decode(wordCode);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.zip.CRC32;
+
+public class WordleDictionarySnapshot {
+
+    private static final int MAGIC = 0x5744534E; // "WDSN"
+    private static final int VERSION = 1;
+
+    private WordleDictionarySnapshot() {
+    }
+
+    // Снимок лежит рядом со словарем под тем же именем с расширением .snapshot: words_ru.txt -> words_ru.snapshot
+    public static Path defaultPath(Path sourceFile) {
+        if (sourceFile == null) {
+            throw new WordleSystemException("Путь к словарю не может быть null");
+        }
+        String name = sourceFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return sourceFile.resolveSibling(base + ".snapshot");
+    }
+
+    // Хэш содержимого исходного текстового файла: CRC32 в старших битах, длина в младших
+    public static long sourceHash(Path sourceFile) {
+        try (FileChannel channel = FileChannel.open(sourceFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            CRC32 crc = new CRC32();
+            long position = 0;
+            while (position < size) {
+                long chunk = Math.min(size - position, Integer.MAX_VALUE);
+                crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, chunk));
+                position += chunk;
+            }
+            return (crc.getValue() << 32) | (size & 0xFFFFFFFFL);
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка чтения файла словаря: " + e.getMessage(), e);
+        }
+    }
+
+    // Коды слов из снимка или null, если снимка нет, он поврежден или собран по другому файлу
+    public static int[] read(Path snapshotFile, long expectedSourceHash) {
+        if (!Files.exists(snapshotFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int alphabetLength = buffer.getInt();
+            if (alphabetLength < 0 || alphabetLength > buffer.remaining()) {
+                return null;
+            }
+            byte[] alphabet = new byte[alphabetLength];
+            buffer.get(alphabet);
+            if (!WordleAlphabet.getLetters().equals(new String(alphabet, StandardCharsets.UTF_8))) {
+                return null;
+            }
+            if (buffer.remaining() < 12 || buffer.getLong() != expectedSourceHash) {
+                return null;
+            }
+            int wordCount = buffer.getInt();
+            if (wordCount < 0 || buffer.remaining() != (long) wordCount * Integer.BYTES) {
+                return null;
+            }
+
+            int[] codes = new int[wordCount];
+            buffer.asIntBuffer().get(codes);
+            return codes;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static void write(Path snapshotFile, long sourceHash, int[] wordCodes) {
+        byte[] alphabet = WordleAlphabet.getLetters().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + 4 + alphabet.length + 8 + 4 + wordCodes.length * Integer.BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(alphabet.length).put(alphabet)
+                .putLong(sourceHash).putInt(wordCodes.length);
+        buffer.asIntBuffer().put(wordCodes);
+        buffer.position(buffer.capacity()).flip();
+
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка записи снимка словаря: " + e.getMessage(), e);
+        }
+        try {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new WordleSystemException("Не удалось сохранить снимок словаря: " + e.getMessage(), e);
+        }
+    }
+}
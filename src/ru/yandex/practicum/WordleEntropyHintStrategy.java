@@ -0,0 +1,295 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class WordleEntropyHintStrategy implements WordleHintStrategy {
+
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+    public static final double DEFAULT_TOLERANCE = 0.03;
+
+    // Меньше стольких догадок на задачу делить работу дальше невыгодно
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+    // Догадок в порции между проверками срока
+    private static final int BATCH_SIZE = 512;
+
+    private final WordleFeedbackMatrix matrix;
+    private final ForkJoinPool pool;
+    // Больше стольких кандидатов - оценка по случайной выборке такого размера
+    private final int sampleSize;
+
+    public WordleEntropyHintStrategy() {
+        this(null, ForkJoinPool.commonPool());
+    }
+
+    public WordleEntropyHintStrategy(WordleFeedbackMatrix matrix, ForkJoinPool pool) {
+        this(matrix, pool, DEFAULT_CONFIDENCE, DEFAULT_TOLERANCE);
+    }
+
+    // Неравенство Хёфдинга для одной корзины одной догадки: с вероятностью confidence ее доля
+    // в выборке отличается от доли среди всех кандидатов не больше чем на tolerance. Поправки на
+    // 243 корзины и все оцененные догадки (union bound) нет, так что для всей оценки это ориентир
+    // точности, а не совместная гарантия
+    public WordleEntropyHintStrategy(WordleFeedbackMatrix matrix, ForkJoinPool pool,
+                                     double confidence, double tolerance) {
+        if (pool == null) {
+            throw new WordleSystemException("Пул потоков не может быть null");
+        }
+        if (!(confidence > 0 && confidence < 1) || !(tolerance > 0 && tolerance < 0.5)) {
+            throw new WordleSystemException("Неверные параметры выборки: доверие " + confidence
+                    + ", точность " + tolerance);
+        }
+        this.matrix = matrix;
+        this.pool = pool;
+        this.sampleSize = (int) Math.ceil(Math.log(2 / (1 - confidence)) / (2 * tolerance * tolerance));
+    }
+
+    @Override
+    public String getName() {
+        return "entropy";
+    }
+
+    @Override
+    public int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount) {
+        return selectHint(dictionary, candidateIds, candidateCount, WordleHintDeadline.none());
+    }
+
+    // Догадки оцениваются порциями в порядке приоритета; после срока остаток не оценивается,
+    // а без срока результат тот же, что при полном переборе
+    @Override
+    public int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount,
+                          WordleHintDeadline deadline) {
+        if (candidateCount <= 0) {
+            throw new WordleSystemException("Нет кандидатов для подсказки");
+        }
+        if (candidateCount <= 2) {
+            return candidateIds[0];
+        }
+
+        WordleFeedbackMatrix usableMatrix = matrix != null && matrix.matches(dictionary) ? matrix : null;
+        ScoringContext context;
+        int[] order;
+        if (candidateCount <= sampleSize) {
+            context = new ScoringContext(dictionary, candidateIds, candidateCount, candidateIds, candidateCount,
+                    usableMatrix, deadline);
+            order = priorityOrder(context);
+        } else {
+            // Корзины оцениваются по выборке кандидатов, а догадок оценивается столько же, сколько
+            // в выборке, лучших по приоритету: цена подсказки перестает расти вместе со словарем
+            int[] sample = sample(candidateIds, candidateCount, sampleSize);
+            context = new ScoringContext(dictionary, sample, sampleSize, candidateIds, candidateCount,
+                    usableMatrix, deadline);
+            order = Arrays.copyOf(priorityOrder(context), Math.min(dictionary.size(), sampleSize));
+        }
+        int batch = deadline == WordleHintDeadline.none() ? order.length : BATCH_SIZE;
+        Scored best = null;
+        for (int from = 0; from < order.length && !deadline.isExpired(); from += batch) {
+            Scored found = pool.invoke(new ScoreTask(context, order, from, Math.min(order.length, from + batch)));
+            if (found != null && (best == null || found.betterThan(best))) {
+                best = found;
+            }
+        }
+        return best == null ? order[0] : best.guessId;
+    }
+
+    int getSampleSize() {
+        return sampleSize;
+    }
+
+    // Частичное перемешивание копии; зерно из самих кандидатов, чтобы одно состояние давало одну подсказку
+    private static int[] sample(int[] candidateIds, int candidateCount, int size) {
+        int[] ids = Arrays.copyOf(candidateIds, candidateCount);
+        long seed = candidateCount;
+        for (int i = 0; i < candidateCount; i += Math.max(1, candidateCount / 64)) {
+            seed = seed * 31 + ids[i];
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(candidateCount - i);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    // Сначала слова, чьи буквы делят кандидатов ближе всего пополам: дешевая оценка той же информации
+    private static int[] priorityOrder(ScoringContext context) {
+        int[] letterCandidates = new int[WordleAlphabet.LETTER_COUNT];
+        for (int code : context.candidateCodes) {
+            int letters = 0;
+            for (int i = 0; i < WordleAlphabet.WORD_LENGTH; i++) {
+                letters |= 1 << WordleAlphabet.letterAt(code, i);
+            }
+            for (int pending = letters; pending != 0; pending &= pending - 1) {
+                letterCandidates[Integer.numberOfTrailingZeros(pending)]++;
+            }
+        }
+
+        int n = context.dictionary.size();
+        long[] keys = new long[n];
+        for (int id = 0; id < n; id++) {
+            int code = context.dictionary.getWordCode(id);
+            int letters = 0;
+            for (int i = 0; i < WordleAlphabet.WORD_LENGTH; i++) {
+                letters |= 1 << WordleAlphabet.letterAt(code, i);
+            }
+            long split = 0;
+            for (int pending = letters; pending != 0; pending &= pending - 1) {
+                int count = letterCandidates[Integer.numberOfTrailingZeros(pending)];
+                split += Math.min(count, context.candidateCount - count);
+            }
+            keys[id] = -split << 32 | id;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    // Ожидаемая информация догадки: H = log2(N) - sum(c * log2(c)) / N по корзинам паттернов
+    public static double expectedInformation(WordleDictionary dictionary, int guessId,
+                                             int[] candidateIds, int candidateCount) {
+        ScoringContext context = new ScoringContext(dictionary, candidateIds, candidateCount,
+                candidateIds, candidateCount, null, WordleHintDeadline.none());
+        double weight = context.bucketWeight(guessId, new int[WordleFeedback.PATTERN_COUNT]);
+        return log2(candidateCount) - weight / candidateCount;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static final class ScoringContext {
+        final WordleDictionary dictionary;
+        final int[] candidateIds;
+        final int[] candidateCodes;
+        final int candidateCount;
+        final WordleFeedbackMatrix matrix;
+        // cLogC[c] = c * log2(c)
+        final double[] cLogC;
+        final boolean[] isCandidate;
+        final WordleHintDeadline deadline;
+
+        // candidateIds - по ним считаются корзины (все кандидаты или выборка), allCandidateIds - все
+        ScoringContext(WordleDictionary dictionary, int[] candidateIds, int candidateCount,
+                       int[] allCandidateIds, int allCandidateCount,
+                       WordleFeedbackMatrix matrix, WordleHintDeadline deadline) {
+            this.dictionary = dictionary;
+            this.deadline = deadline;
+            this.candidateIds = candidateIds;
+            this.candidateCount = candidateCount;
+            this.matrix = matrix;
+            this.candidateCodes = new int[candidateCount];
+            this.isCandidate = new boolean[dictionary.size()];
+            for (int i = 0; i < candidateCount; i++) {
+                candidateCodes[i] = dictionary.getWordCode(candidateIds[i]);
+            }
+            for (int i = 0; i < allCandidateCount; i++) {
+                isCandidate[allCandidateIds[i]] = true;
+            }
+            this.cLogC = new double[candidateCount + 1];
+            for (int c = 2; c <= candidateCount; c++) {
+                cLogC[c] = c * log2(c);
+            }
+        }
+
+        double bucketWeight(int guessId, int[] buckets) {
+            Arrays.fill(buckets, 0);
+            if (matrix != null) {
+                for (int i = 0; i < candidateCount; i++) {
+                    buckets[matrix.getPattern(guessId, candidateIds[i])]++;
+                }
+            } else {
+                int guessCode = dictionary.getWordCode(guessId);
+                for (int i = 0; i < candidateCount; i++) {
+                    buckets[WordleFeedback.compute(guessCode, candidateCodes[i])]++;
+                }
+            }
+
+            double weight = 0;
+            for (int count : buckets) {
+                weight += cLogC[count];
+            }
+            return weight;
+        }
+    }
+
+    private static final class Scored {
+        final int guessId;
+        final double weight;
+        final boolean candidate;
+
+        Scored(int guessId, double weight, boolean candidate) {
+            this.guessId = guessId;
+            this.weight = weight;
+            this.candidate = candidate;
+        }
+
+        // Меньший вес корзин - больше информации; при равенстве лучше слово, которое может оказаться ответом
+        boolean betterThan(Scored other) {
+            if (weight != other.weight) return weight < other.weight;
+            if (candidate != other.candidate) return candidate;
+            return guessId < other.guessId;
+        }
+    }
+
+    // Лучшая догадка среди order[from..to); null, если срок вышел раньше, чем что-то оценено.
+    // Задача живет только внутри пула и никогда не сериализуется
+    @SuppressWarnings("serial")
+    private static final class ScoreTask extends RecursiveTask<Scored> {
+        private final ScoringContext context;
+        private final int[] order;
+        private final int from;
+        private final int to;
+
+        ScoreTask(ScoringContext context, int[] order, int from, int to) {
+            this.context = context;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Scored compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                if (context.deadline.isExpired()) {
+                    return null;
+                }
+                int[] buckets = new int[WordleFeedback.PATTERN_COUNT];
+                int bestId = order[from];
+                double bestWeight = context.bucketWeight(bestId, buckets);
+                for (int i = from + 1; i < to; i++) {
+                    int guessId = order[i];
+                    double weight = context.bucketWeight(guessId, buckets);
+                    if (weight < bestWeight || weight == bestWeight && preferOnTie(guessId, bestId)) {
+                        bestId = guessId;
+                        bestWeight = weight;
+                    }
+                }
+                return new Scored(bestId, bestWeight, context.isCandidate[bestId]);
+            }
+
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(context, order, from, middle);
+            left.fork();
+            Scored right = new ScoreTask(context, order, middle, to).compute();
+            Scored leftResult = left.join();
+            if (leftResult == null || right == null) {
+                return leftResult == null ? right : leftResult;
+            }
+            return right.betterThan(leftResult) ? right : leftResult;
+        }
+
+        // Тот же порядок, что Scored.betterThan, чтобы результат не зависел от порядка обхода
+        private boolean preferOnTie(int guessId, int bestId) {
+            boolean candidate = context.isCandidate[guessId];
+            if (candidate != context.isCandidate[bestId]) return candidate;
+            return guessId < bestId;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.yandex.practicum;
+
+public final class WordleFeedback {
+
+    // Паттерн кодируется числом в системе счисления по основанию 3: позиция i - разряд 3^i
+    public static final int ABSENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+    public static final int PATTERN_COUNT = 243;
+    public static final int ALL_CORRECT = PATTERN_COUNT - 1;
+    public static final int INVALID_PATTERN = -1;
+
+    private static final int WORD_LENGTH = WordleAlphabet.WORD_LENGTH;
+    private static final int[] POWERS = {1, 3, 9, 27, 81};
+    private static final char[] SYMBOLS = {'-', '^', '+'};
+
+    private WordleFeedback() {
+    }
+
+    public static int compute(int guessCode, int answerCode) {
+        int pattern = 0;
+        int usedAnswer = 0;
+        int matchedGuess = 0;
+        // Буквы ответа вне зеленых позиций: серые буквы догадки отсеиваются без просмотра ответа
+        int openLetters = 0;
+
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int answerLetter = WordleAlphabet.letterAt(answerCode, i);
+            if (WordleAlphabet.letterAt(guessCode, i) == answerLetter) {
+                pattern += CORRECT * POWERS[i];
+                usedAnswer |= 1 << i;
+                matchedGuess |= 1 << i;
+            } else {
+                openLetters |= 1 << answerLetter;
+            }
+        }
+        if (matchedGuess == (1 << WORD_LENGTH) - 1) {
+            return ALL_CORRECT;
+        }
+
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if ((matchedGuess & (1 << i)) != 0) continue;
+
+            int guessLetter = WordleAlphabet.letterAt(guessCode, i);
+            if ((openLetters & (1 << guessLetter)) == 0) continue;
+            for (int j = 0; j < WORD_LENGTH; j++) {
+                if ((usedAnswer & (1 << j)) == 0 && WordleAlphabet.letterAt(answerCode, j) == guessLetter) {
+                    pattern += PRESENT * POWERS[i];
+                    usedAnswer |= 1 << j;
+                    break;
+                }
+            }
+        }
+        return pattern;
+    }
+
+    public static int digitAt(int pattern, int position) {
+        return pattern / POWERS[position] % 3;
+    }
+
+    public static String toString(int pattern) {
+        if (pattern < 0 || pattern >= PATTERN_COUNT) {
+            throw new WordleSystemException("Неверный код паттерна: " + pattern);
+        }
+        char[] chars = new char[WORD_LENGTH];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            chars[i] = SYMBOLS[digitAt(pattern, i)];
+        }
+        return new String(chars);
+    }
+
+    public static int parse(String pattern) {
+        if (pattern == null || pattern.length() != WORD_LENGTH) {
+            return INVALID_PATTERN;
+        }
+        int result = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            switch (pattern.charAt(i)) {
+                case '-' -> result += ABSENT * POWERS[i];
+                case '^' -> result += PRESENT * POWERS[i];
+                case '+' -> result += CORRECT * POWERS[i];
+                default -> {
+                    return INVALID_PATTERN;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.stream.IntStream;
+
+public class WordleFeedbackMatrix {
+
+    private static final int MAGIC = 0x57464D58; // "WFMX"
+    private static final int VERSION = 1;
+    // magic, version, wordCount, checksum словаря
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 8;
+    private static final int MAX_WORDS = 46_000; // wordCount^2 должен помещаться в int
+
+    private final ByteBuffer patterns;
+    private final int wordCount;
+    private final long dictionaryChecksum;
+
+    private WordleFeedbackMatrix(ByteBuffer patterns, int wordCount, long dictionaryChecksum) {
+        this.patterns = patterns;
+        this.wordCount = wordCount;
+        this.dictionaryChecksum = dictionaryChecksum;
+    }
+
+    public static WordleFeedbackMatrix build(WordleDictionary dictionary) {
+        int n = dictionary.size();
+        if (n > MAX_WORDS) {
+            throw new WordleSystemException("Словарь слишком велик для матрицы паттернов: " + n);
+        }
+        int[] codes = new int[n];
+        for (int id = 0; id < n; id++) {
+            codes[id] = dictionary.getWordCode(id);
+        }
+
+        byte[] data = new byte[n * n];
+        IntStream.range(0, n).parallel().forEach(guessId -> {
+            int guessCode = codes[guessId];
+            int offset = guessId * n;
+            for (int answerId = 0; answerId < n; answerId++) {
+                data[offset + answerId] = (byte) WordleFeedback.compute(guessCode, codes[answerId]);
+            }
+        });
+        return new WordleFeedbackMatrix(ByteBuffer.wrap(data), n, dictionary.getChecksum());
+    }
+
+    public static WordleFeedbackMatrix loadOrBuild(WordleDictionary dictionary, Path file, WordleLogger logger) {
+        if (Files.exists(file)) {
+            try {
+                WordleFeedbackMatrix matrix = map(file);
+                if (matrix.matches(dictionary)) {
+                    logger.info("Матрица паттернов загружена из файла: " + file);
+                    return matrix;
+                }
+                logger.info("Матрица паттернов устарела, пересборка: " + file);
+            } catch (WordleSystemException e) {
+                logger.warn("Файл матрицы паттернов поврежден, пересборка: " + e.getMessage());
+            }
+        }
+
+        WordleFeedbackMatrix matrix = build(dictionary);
+        matrix.writeTo(file);
+        logger.info("Матрица паттернов построена и сохранена: " + file + " (" + matrix.wordCount + " слов)");
+        return map(file);
+    }
+
+    public static WordleFeedbackMatrix map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new WordleSystemException("Файл матрицы паттернов слишком короткий: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.getInt(0) != MAGIC) {
+                throw new WordleSystemException("Неверный формат файла матрицы паттернов: " + file);
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new WordleSystemException("Неподдерживаемая версия матрицы паттернов: " + buffer.getInt(4));
+            }
+            int wordCount = buffer.getInt(8);
+            long checksum = buffer.getLong(12);
+            if (wordCount < 0 || wordCount > MAX_WORDS || size != HEADER_SIZE + (long) wordCount * wordCount) {
+                throw new WordleSystemException("Размер файла матрицы паттернов не совпадает с заголовком: " + file);
+            }
+
+            ByteBuffer patterns = buffer.position(HEADER_SIZE).slice();
+            return new WordleFeedbackMatrix(patterns, wordCount, checksum);
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка чтения матрицы паттернов: " + e.getMessage(), e);
+        }
+    }
+
+    public void writeTo(Path file) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(wordCount).putLong(dictionaryChecksum).flip();
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer data = patterns.duplicate().clear();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка записи матрицы паттернов: " + e.getMessage(), e);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new WordleSystemException("Не удалось сохранить матрицу паттернов: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean matches(WordleDictionary dictionary) {
+        return wordCount == dictionary.size() && dictionaryChecksum == dictionary.getChecksum();
+    }
+
+    public int getPattern(int guessId, int answerId) {
+        return patterns.get(guessId * wordCount + answerId) & 0xFF;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+}
@@ -2,40 +2,92 @@ package ru.yandex.practicum;
 
 import java.io.PrintWriter;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class WordleGame {
 
+    public static final String HEURISTIC_STRATEGY_NAME = "heuristic";
+
     private final String answer;
+    private final int answerCode;
     private int remainingAttempts;
     private final WordleDictionary dictionary;
-    private final PrintWriter logWriter;
-    private final Set<String> previousGuesses = new HashSet<>();
+    private final WordleLogger logger;
     private final WordleHintFilter hintFilter = new WordleHintFilter();
-    private List<String> cachedPossibleWords;
-    private boolean filterDirty = true;
-    private final Random random = new Random();
+    // Живое множество кандидатов: id слов, подходящих под фильтр, первые candidateCount элементов
+    private int[] candidateIds;
+    private int candidateCount;
+    private WordleHintStrategy hintStrategy;
+    private WordleDecisionTree openingBook;
+    private WordleHintCache hintCache;
+    // История игры по порядку: id догадок в словаре и их паттерны в кодах WordleFeedback
+    private final int[] historyGuessIds = new int[6];
+    private final int[] historyPatterns = new int[6];
+    private int historyLength;
+    private boolean wordGuessed;
+    // Журнал необязателен: события партии пишутся под journalGameId из WordleJournal.appendCreated
+    private WordleJournal journal;
+    private long journalGameId;
+    // Откуда взята последняя подсказка: selectHint заполняет, generateHint переносит в событие JFR
+    private String hintSource;
+    private int hintCandidatesBefore;
+    private int hintCandidatesAfter;
 
     public WordleGame(WordleDictionary dictionary, PrintWriter logWriter) {
+        this(dictionary, WordleLogger.synchronous(logWriter));
+    }
+
+    public WordleGame(WordleDictionary dictionary, WordleLogger logger) {
+        this(dictionary, logger, null);
+    }
+
+    // Загаданное слово задается снаружи для симуляции и тестов, null - случайное слово словаря
+    public WordleGame(WordleDictionary dictionary, WordleLogger logger, String answer) {
         if (dictionary == null) {
             throw new WordleSystemException("Словарь не может быть null");
         }
-        if (logWriter == null) {
+        if (logger == null) {
             throw new WordleSystemException("Логгер не может быть null");
         }
 
-        this.answer = dictionary.getRandomWord();
+        this.answer = answer == null ? dictionary.getRandomWord() : WordleAlphabet.normalize(answer);
         this.remainingAttempts = 6;
         this.dictionary = dictionary;
-        this.logWriter = logWriter;
+        this.logger = logger;
 
-        if (this.answer == null || this.answer.length() != 5) {
+        if (this.answer.length() != 5) {
             throw new WordleSystemException("Загаданное слово имеет неверный формат");
         }
+        if (!dictionary.contains(this.answer)) {
+            throw new WordleSystemException("Загаданного слова нет в словаре: " + this.answer);
+        }
+        this.answerCode = WordleAlphabet.encode(this.answer);
 
-        logWriter.println("Игра создана, загаданное слово: " + answer);
+        // Загаданное слово - только на уровне DEBUG: лог сервера читают не одни разработчики
+        logger.info("Игра создана");
+        logger.debug(() -> "Загаданное слово: " + this.answer);
     }
 
-    public String checkGuess(String guess) {
+    // Восстановление партии из хранилища сессий по истории: паттерны уже известны, поэтому
+    // фильтр обновляется без загаданного слова, и в лог ничего не пишется
+    WordleGame(WordleDictionary dictionary, WordleLogger logger, int answerId,
+               int[] guessIds, int[] patterns, int length) {
+        this.dictionary = dictionary;
+        this.logger = logger;
+        this.answer = dictionary.getWord(answerId);
+        this.answerCode = dictionary.getWordCode(answerId);
+        this.remainingAttempts = 6 - length;
+        for (int turn = 0; turn < length; turn++) {
+            historyGuessIds[turn] = guessIds[turn];
+            historyPatterns[turn] = patterns[turn];
+            hintFilter.updateFromGuess(dictionary.getWordCode(guessIds[turn]), patterns[turn]);
+            wordGuessed |= patterns[turn] == WordleFeedback.ALL_CORRECT;
+        }
+        this.historyLength = length;
+    }
+
+    // Паттерн в разрядах WordleFeedback; строкой его делает только интерфейс (WordleFeedback.toString)
+    public int checkGuess(String guess) {
         if (remainingAttempts <= 0) {
             throw new WordleGameException("Игра уже завершена");
         }
@@ -43,20 +95,67 @@ public class WordleGame {
             throw new WordNotFoundInDictionaryException("Слово не может быть null");
         }
 
-        String normalizedGuess = normalizeWord(guess);
-        if (!dictionary.contains(normalizedGuess)) {
-            throw new WordNotFoundInDictionaryException(normalizedGuess);
+        int wordId = dictionary.indexOfCode(WordleAlphabet.encodeTrimmed(guess));
+        if (wordId < 0) {
+            throw new WordNotFoundInDictionaryException(WordleAlphabet.normalize(guess));
         }
 
-        previousGuesses.add(normalizedGuess);
-        String result = generateHintPattern(normalizedGuess);
-        remainingAttempts--;
+        return applyGuess(wordId);
+    }
+
+    public int checkGuessById(int wordId) {
+        if (remainingAttempts <= 0) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (wordId < 0 || wordId >= dictionary.size()) {
+            throw new WordNotFoundInDictionaryException("#" + wordId);
+        }
 
-        hintFilter.updateFromGuess(normalizedGuess, result, answer);
-        filterDirty = true;
+        return applyGuess(wordId);
+    }
 
-        logWriter.println("Проверка слова: " + normalizedGuess + " -> " + result + " (осталось попыток: " + remainingAttempts + ")");
-        return result;
+    private int applyGuess(int wordId) {
+        long start = System.nanoTime();
+        WordleGuessCheckEvent event = new WordleGuessCheckEvent();
+        event.begin();
+        String normalizedGuess = dictionary.getWord(wordId);
+        int guessCode = dictionary.getWordCode(wordId);
+        int pattern = WordleFeedback.compute(guessCode, answerCode);
+        // Догадка пишется в журнал до хода: если запись не удалась, попытка не тратится
+        if (journal != null) {
+            journal.append(WordleJournal.EventType.GUESS, journalGameId, historyLength + 1, guessCode, pattern);
+        }
+        wordGuessed |= pattern == WordleFeedback.ALL_CORRECT;
+        remainingAttempts--;
+        historyGuessIds[historyLength] = wordId;
+        historyPatterns[historyLength] = pattern;
+        historyLength++;
+
+        hintFilter.updateFromGuess(guessCode, pattern);
+        narrowCandidates();
+        if (journal != null && isGameOver()) {
+            // Итог партии выводится из уже записанных догадок, поэтому ошибка этой записи только логируется
+            try {
+                journal.append(WordleJournal.EventType.FINISHED, journalGameId, historyLength, answerCode,
+                        wordGuessed ? 1 : 0);
+            } catch (WordleSystemException e) {
+                logger.error("Не удалось записать завершение партии " + journalGameId + ": " + e.getMessage());
+            }
+        }
+
+        if (logger.isEnabled(WordleLogLevel.INFO)) {
+            logger.info("Проверка слова: " + normalizedGuess + " -> " + WordleFeedback.toString(pattern)
+                    + " (осталось попыток: " + remainingAttempts + ")");
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.guess = normalizedGuess;
+            event.pattern = WordleFeedback.toString(pattern);
+            event.remainingAttempts = remainingAttempts;
+            event.commit();
+        }
+        WordleMetrics.global().recordCheckGuess(System.nanoTime() - start);
+        return pattern;
     }
 
     public boolean isGameOver() {
@@ -64,145 +163,312 @@ public class WordleGame {
     }
 
     public boolean isWordGuessed() {
-        if (previousGuesses.isEmpty()) return false;
-        for (String guess : previousGuesses) {
-            if (answer.equals(guess)) {
-                return true;
-            }
-        }
-        return false;
+        return wordGuessed;
     }
 
     public String generateHint() {
+        return generateHint(WordleHintDeadline.none());
+    }
+
+    // После срока или отмены стратегия отдает лучшую из уже оцененных догадок
+    public String generateHint(WordleHintDeadline deadline) {
+        if (deadline == null) {
+            throw new WordleSystemException("Срок подсказки не может быть null");
+        }
+        long start = System.nanoTime();
+        WordleHintEvent event = new WordleHintEvent();
+        event.begin();
+        String hint = selectHint(deadline);
+        event.end();
+        if (event.shouldCommit()) {
+            event.hint = hint;
+            event.strategy = hintSource;
+            event.candidatesBefore = hintCandidatesBefore;
+            event.candidatesAfter = hintCandidatesAfter;
+            event.deadlineExpired = deadline.isExpired();
+            event.attempt = historyLength;
+            event.correctPositions = hintFilter.getCorrectPositionsString();
+            event.presentLetters = hintFilter.getPresentLetters().toString();
+            event.absentLetters = hintFilter.getAbsentLetters().toString();
+            event.minLetterCounts = hintFilter.getMinLetterCounts().toString();
+            event.commit();
+        }
+        if (journal != null) {
+            journal.append(WordleJournal.EventType.HINT, journalGameId, historyLength, WordleAlphabet.encode(hint), 0);
+        }
+        WordleMetrics.global().recordGenerateHint(System.nanoTime() - start);
+        return hint;
+    }
+
+    // Источник подсказки хранится в полях, а не в событии: событие не покидает generateHint,
+    // и JIT может убрать его создание, когда оно выключено
+    private void recordHintSource(String strategy, int candidatesBefore, int candidatesAfter) {
+        hintSource = strategy;
+        hintCandidatesBefore = candidatesBefore;
+        hintCandidatesAfter = candidatesAfter;
+    }
+
+    private String selectHint(WordleHintDeadline deadline) {
         logHintFilterState();
-        List<String> possibleWords = getCachedPossibleWords();
 
-        List<String> availableWords = new ArrayList<>();
-        for (String word : possibleWords) {
-            if (!previousGuesses.contains(word)) {
-                availableWords.add(word);
+        if (openingBook != null) {
+            int bookId = openingBook.lookup(historyGuessIds, historyPatterns, historyLength);
+            if (bookId >= 0 && !isGuessed(bookId)) {
+                recordHintSource("openingBook", -1, 0);
+                return dictionary.getWord(bookId);
             }
         }
 
-        if (availableWords.isEmpty()) {
+        WordleHintState state = null;
+        if (hintCache != null && hintCache.isFor(dictionary, getHintStrategyName())) {
+            state = WordleHintState.fromHistory(getHistoryGuessCodes(), historyPatterns, historyLength);
+            WordleHintCache.Hint cached = hintCache.get(state);
+            // Стратегия может подсказать и не кандидата, а он в этой игре мог уже прозвучать
+            if (cached != null && !isGuessed(cached.getWordId())) {
+                WordleMetrics.global().recordCandidates(historyLength, cached.getCandidateCount());
+                recordHintSource("cache", cached.getCandidateCount(), cached.getCandidateCount());
+                return dictionary.getWord(cached.getWordId());
+            }
+        }
+
+        ensureCandidates();
+        WordleMetrics.global().recordCandidates(historyLength, candidateCount);
+
+        int[] availableIds = new int[candidateCount];
+        int availableCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int id = candidateIds[i];
+            if (!isGuessed(id)) {
+                availableIds[availableCount++] = id;
+            }
+        }
+
+        if (availableCount == 0) {
+            recordHintSource("random", candidateCount, availableCount);
             return getRandomWordExcludingUsed();
         }
 
-        return selectBestHint(availableWords);
+        int hintId = -1;
+        if (hintStrategy != null) {
+            hintId = hintStrategy.selectHint(dictionary, availableIds, availableCount, deadline);
+            if (isGuessed(hintId)) {
+                hintId = -1;
+            }
+        }
+        String strategy;
+        if (hintId >= 0) {
+            strategy = hintStrategy.getName();
+        } else {
+            hintId = selectBestHint(availableIds, availableCount);
+            strategy = HEURISTIC_STRATEGY_NAME;
+        }
+        recordHintSource(strategy, candidateCount, availableCount);
+        // Подсказка запасной эвристики не зависит от выбранной стратегии, а прерванная по сроку
+        // может быть хуже полной - такие в кэш не кладем
+        if (state != null && strategy.equals(getHintStrategyName()) && !deadline.isExpired()) {
+            hintCache.put(state, new WordleHintCache.Hint(hintId, candidateCount));
+        }
+        return dictionary.getWord(hintId);
     }
 
-    private List<String> getCachedPossibleWords() {
-        if (filterDirty || cachedPossibleWords == null) {
-            cachedPossibleWords = dictionary.getFilteredWords(hintFilter);
-            filterDirty = false;
-            logWriter.println("Кэш подсказок обновлен, найдено слов: " + cachedPossibleWords.size());
+    // Имя, под которым подсказки этой игры лежат в общем кэше
+    public String getHintStrategyName() {
+        return hintStrategy == null ? HEURISTIC_STRATEGY_NAME : hintStrategy.getName();
+    }
+
+    public void setHintCache(WordleHintCache hintCache) {
+        if (hintCache != null && !hintCache.isFor(dictionary, getHintStrategyName())) {
+            throw new WordleSystemException("Кэш подсказок построен для другого словаря или стратегии");
         }
-        return cachedPossibleWords;
+        this.hintCache = hintCache;
     }
 
-    private String selectBestHint(List<String> possibleWords) {
-        if (possibleWords.size() <= 3) {
-            return possibleWords.get(random.nextInt(possibleWords.size()));
+    private int[] getHistoryGuessCodes() {
+        int[] codes = new int[historyLength];
+        for (int i = 0; i < historyLength; i++) {
+            codes[i] = dictionary.getWordCode(historyGuessIds[i]);
         }
+        return codes;
+    }
 
-        String bestWord = possibleWords.get(0);
-        int maxNewLetters = countNewLetters(bestWord);
+    // Сразу пишет событие создания партии; дальше - каждую догадку, подсказку и завершение
+    public void setJournal(WordleJournal journal) {
+        if (journal == null) {
+            throw new WordleSystemException("Журнал не может быть null");
+        }
+        this.journal = journal;
+        this.journalGameId = journal.appendCreated(answerCode);
+        logger.info("Партия записывается в журнал под id " + journalGameId);
+    }
 
-        for (int i = 1; i < Math.min(possibleWords.size(), 100); i++) {
-            String word = possibleWords.get(i);
-            int newLettersCount = countNewLetters(word);
-            if (newLettersCount > maxNewLetters) {
-                bestWord = word;
-                maxNewLetters = newLettersCount;
+    // Продолжение уже открытой партии журнала, например снимка сессии сервера: CREATED не пишется
+    void attachJournal(WordleJournal journal, long gameId) {
+        this.journal = journal;
+        this.journalGameId = gameId;
+    }
+
+    // 0 - партия не пишется в журнал
+    public long getJournalGameId() {
+        return journalGameId;
+    }
+
+    public void setHintStrategy(WordleHintStrategy hintStrategy) {
+        this.hintStrategy = hintStrategy;
+    }
+
+    public void setOpeningBook(WordleDecisionTree openingBook) {
+        if (openingBook != null && !openingBook.matches(dictionary)) {
+            throw new WordleSystemException("Дерево решений построено для другого словаря");
+        }
+        this.openingBook = openingBook;
+    }
+
+    // Повторы догадок хранятся в истории, поэтому id слова уникален для своего кода
+    private boolean isGuessed(int wordId) {
+        for (int turn = 0; turn < historyLength; turn++) {
+            if (historyGuessIds[turn] == wordId) {
+                return true;
             }
         }
-        return bestWord;
+        return false;
     }
 
-    private int countNewLetters(String word) {
-        Set<Character> usedLetters = getAllUsedLetters();
-        int newLetters = 0;
-        for (char c : word.toCharArray()) {
-            if (!usedLetters.contains(c)) newLetters++;
+    private void ensureCandidates() {
+        if (candidateIds == null) {
+            WordleCandidateRebuildEvent event = new WordleCandidateRebuildEvent();
+            event.begin();
+            long[] matching = dictionary.getFilteredIds(hintFilter);
+            candidateIds = new int[WordleLetterIndex.cardinality(matching)];
+            candidateCount = 0;
+            for (int id = WordleLetterIndex.nextSetBit(matching, 0); id >= 0;
+                 id = WordleLetterIndex.nextSetBit(matching, id + 1)) {
+                if (isConsistentWithHistory(dictionary.getWordCode(id), 0)) {
+                    candidateIds[candidateCount++] = id;
+                }
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.attempt = historyLength;
+                event.candidates = candidateCount;
+                event.commit();
+            }
+            WordleMetrics.global().recordHintCacheRebuild();
+            logger.debug("Кэш подсказок обновлен, найдено слов: " + candidateCount);
         }
-        return newLetters;
     }
 
-    private Set<Character> getAllUsedLetters() {
-        Set<Character> usedLetters = new HashSet<>();
-        for (String guess : previousGuesses) {
-            for (char c : guess.toCharArray()) {
-                usedLetters.add(c);
+    // Кандидаты только сужаются с каждой догадкой, поэтому достаточно проверить выживших по последней
+    private void narrowCandidates() {
+        if (candidateIds == null) {
+            return;
+        }
+        int before = candidateCount;
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int id = candidateIds[i];
+            if (isConsistentWithHistory(dictionary.getWordCode(id), historyLength - 1)) {
+                candidateIds[kept++] = id;
             }
         }
-        return usedLetters;
+        candidateCount = kept;
+        WordleMetrics.global().recordCandidateNarrowing();
+        logger.debug("Кандидаты сужены: " + before + " -> " + candidateCount);
     }
 
-    private String generateHintPattern(String guess) {
-        char[] result = new char[5];
-        Arrays.fill(result, '-');
-        char[] answerChars = answer.toCharArray();
-        boolean[] used = new boolean[5];
+    // Фильтр не помнит запрещенные позиции желтых букв и верхние границы повторов,
+    // поэтому кандидат дополнительно обязан давать те же паттерны, что и загаданное слово
+    private boolean isConsistentWithHistory(int wordCode, int fromTurn) {
+        for (int turn = fromTurn; turn < historyLength; turn++) {
+            int guessCode = dictionary.getWordCode(historyGuessIds[turn]);
+            if (WordleFeedback.compute(guessCode, wordCode) != historyPatterns[turn]) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        for (int i = 0; i < 5; i++) {
-            if (guess.charAt(i) == answerChars[i]) {
-                result[i] = '+';
-                used[i] = true;
+    private int selectBestHint(int[] possibleIds, int count) {
+        if (count <= 3) {
+            return possibleIds[ThreadLocalRandom.current().nextInt(count)];
+        }
+
+        int usedLetters = getAllUsedLetters();
+        int bestId = possibleIds[0];
+        int maxNewLetters = countNewLetters(dictionary.getWordCode(bestId), usedLetters);
+
+        for (int i = 1; i < Math.min(count, 100); i++) {
+            int id = possibleIds[i];
+            int newLettersCount = countNewLetters(dictionary.getWordCode(id), usedLetters);
+            if (newLettersCount > maxNewLetters) {
+                bestId = id;
+                maxNewLetters = newLettersCount;
             }
         }
+        return bestId;
+    }
 
+    private int countNewLetters(int wordCode, int usedLetters) {
+        int newLetters = 0;
         for (int i = 0; i < 5; i++) {
-            if (result[i] == '+') continue;
-
-            char guessChar = guess.charAt(i);
-            for (int j = 0; j < 5; j++) {
-                if (!used[j] && answerChars[j] == guessChar) {
-                    result[i] = '^';
-                    used[j] = true;
-                    break;
-                }
-            }
+            if ((usedLetters & (1 << WordleAlphabet.letterAt(wordCode, i))) == 0) newLetters++;
         }
+        return newLetters;
+    }
 
-        return new String(result);
+    private int getAllUsedLetters() {
+        int usedLetters = 0;
+        for (int turn = 0; turn < historyLength; turn++) {
+            int guessCode = dictionary.getWordCode(historyGuessIds[turn]);
+            for (int i = 0; i < 5; i++) {
+                usedLetters |= 1 << WordleAlphabet.letterAt(guessCode, i);
+            }
+        }
+        return usedLetters;
     }
 
     private void logHintFilterState() {
-        StringBuilder state = new StringBuilder();
-        state.append("=== СОСТОЯНИЕ ФИЛЬТРА ПОДСКАЗОК ===\n");
-        state.append("   Попытки: ").append(previousGuesses.size()).append("\n");
-        state.append("   Известные позиции: ").append(hintFilter.getCorrectPositionsString()).append("\n");
-        state.append("   Присутствующие буквы: ").append(hintFilter.getPresentLetters()).append("\n");
-        state.append("   Отсутствующие буквы: ").append(hintFilter.getAbsentLetters()).append("\n");
-        state.append("   Минимальные количества букв: ").append(hintFilter.getMinLetterCounts());
-        logWriter.println(state);
+        logger.debug(() -> {
+            StringBuilder state = new StringBuilder();
+            state.append("=== СОСТОЯНИЕ ФИЛЬТРА ПОДСКАЗОК ===\n");
+            state.append("   Попытки: ").append(historyLength).append("\n");
+            state.append("   Известные позиции: ").append(hintFilter.getCorrectPositionsString()).append("\n");
+            state.append("   Присутствующие буквы: ").append(hintFilter.getPresentLetters()).append("\n");
+            state.append("   Отсутствующие буквы: ").append(hintFilter.getAbsentLetters()).append("\n");
+            state.append("   Минимальные количества букв: ").append(hintFilter.getMinLetterCounts());
+            return state.toString();
+        });
     }
 
     private String getRandomWordExcludingUsed() {
         List<String> allWords = dictionary.getWords();
         List<String> availableWords = new ArrayList<>();
 
-        for (String word : allWords) {
-            if (!previousGuesses.contains(word)) {
-                availableWords.add(word);
+        for (int id = 0; id < allWords.size(); id++) {
+            if (!isGuessed(id)) {
+                availableWords.add(allWords.get(id));
             }
         }
 
         if (availableWords.isEmpty()) {
-            return allWords.get(random.nextInt(allWords.size()));
+            return allWords.get(ThreadLocalRandom.current().nextInt(allWords.size()));
         }
 
-        return availableWords.get(random.nextInt(availableWords.size()));
-    }
-
-    private String normalizeWord(String word) {
-        return word.toLowerCase().replace('ё', 'е').trim();
+        return availableWords.get(ThreadLocalRandom.current().nextInt(availableWords.size()));
     }
 
     public String getAnswer() {
         return answer;
     }
 
+    public int getAnswerCode() {
+        return answerCode;
+    }
+
+    public int getCandidateCount() {
+        ensureCandidates();
+        return candidateCount;
+    }
+
     public int getRemainingAttempts() {
         return remainingAttempts;
     }
@@ -212,6 +478,10 @@ public class WordleGame {
     }
 
     public Set<String> getPreviousGuesses() {
-        return new HashSet<>(previousGuesses);
+        Set<String> guesses = new HashSet<>();
+        for (int turn = 0; turn < historyLength; turn++) {
+            guesses.add(dictionary.getWord(historyGuessIds[turn]));
+        }
+        return guesses;
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("ru.yandex.practicum.GuessCheck")
+@Label("Проверка догадки")
+@Category("Wordle")
+class WordleGuessCheckEvent extends jdk.jfr.Event {
+
+    @Label("Догадка")
+    String guess;
+
+    @Label("Паттерн")
+    String pattern;
+
+    @Label("Осталось попыток")
+    int remainingAttempts;
+}
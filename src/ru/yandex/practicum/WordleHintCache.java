@@ -0,0 +1,146 @@
+package ru.yandex.practicum;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Общий для всех игр кэш: состояние знаний -> выбранная подсказка и размер множества кандидатов.
+// Полосы по хэшу ключа, в каждой LRU на LinkedHashMap под своей блокировкой
+public class WordleHintCache {
+
+    private static final int STRIPES = 16;
+
+    private final WordleDictionary dictionary;
+    private final String strategyName;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // strategyName - стратегия, которой посчитаны подсказки; игры с другой стратегией кэш не используют
+    public WordleHintCache(WordleDictionary dictionary, String strategyName, int capacity) {
+        if (dictionary == null || strategyName == null) {
+            throw new WordleSystemException("Словарь и имя стратегии не могут быть null");
+        }
+        if (capacity < STRIPES) {
+            throw new WordleSystemException("Емкость кэша подсказок должна быть не меньше " + STRIPES + ": " + capacity);
+        }
+        this.dictionary = dictionary;
+        this.strategyName = strategyName;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(capacity / STRIPES);
+        }
+    }
+
+    public Hint get(WordleHintState state) {
+        Stripe stripe = stripeFor(state);
+        Hint hint;
+        stripe.lock.lock();
+        try {
+            hint = stripe.entries.get(state);
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (hint != null) {
+            hits.increment();
+            WordleMetrics.global().recordHintCacheHit();
+        } else {
+            misses.increment();
+            WordleMetrics.global().recordHintCacheMiss();
+        }
+        return hint;
+    }
+
+    public void put(WordleHintState state, Hint hint) {
+        if (hint.getWordId() < 0 || hint.getWordId() >= dictionary.size()) {
+            throw new WordleSystemException("Неверный id слова подсказки: " + hint.getWordId());
+        }
+        Stripe stripe = stripeFor(state);
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(state, hint);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public boolean isFor(WordleDictionary dictionary, String strategyName) {
+        return this.dictionary == dictionary && this.strategyName.equals(strategyName);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private Stripe stripeFor(WordleHintState state) {
+        int hash = state.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    public static class Hint {
+
+        private final int wordId;
+        private final int candidateCount;
+
+        public Hint(int wordId, int candidateCount) {
+            this.wordId = wordId;
+            this.candidateCount = candidateCount;
+        }
+
+        public int getWordId() {
+            return wordId;
+        }
+
+        public int getCandidateCount() {
+            return candidateCount;
+        }
+    }
+
+    private class Stripe {
+
+        // ReentrantLock, а не synchronized: кэш читают виртуальные потоки сервера
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<WordleHintState, Hint> entries;
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<WordleHintState, Hint> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
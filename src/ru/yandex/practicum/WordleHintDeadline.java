@@ -0,0 +1,62 @@
+package ru.yandex.practicum;
+
+import java.time.Duration;
+
+// Срок и отмена вычисления подсказки. Стратегия проверяет isExpired между порциями работы и,
+// когда срок вышел или подсказку отменили, возвращает лучшую догадку из уже оцененных
+public final class WordleHintDeadline {
+
+    private static final WordleHintDeadline NONE = new WordleHintDeadline(Long.MAX_VALUE, false, null);
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+    // Срок, выданный через limit, отменяется вместе с исходным
+    private final WordleHintDeadline parent;
+    // Отменяет другой поток, например обработчик отключившегося клиента
+    private volatile boolean cancelled;
+
+    private WordleHintDeadline(long deadlineNanos, boolean bounded, WordleHintDeadline parent) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+        this.parent = parent;
+    }
+
+    // Без срока; такую подсказку отменить нельзя
+    public static WordleHintDeadline none() {
+        return NONE;
+    }
+
+    public static WordleHintDeadline after(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new WordleSystemException("Неверный бюджет времени подсказки: " + budget);
+        }
+        return new WordleHintDeadline(System.nanoTime() + budget.toNanos(), true, null);
+    }
+
+    // Без срока, но с возможностью отмены
+    public static WordleHintDeadline cancellable() {
+        return new WordleHintDeadline(Long.MAX_VALUE, false, null);
+    }
+
+    // Бюджет отсчитывается с момента вызова, а отмена этого срока действует и на новый: так отмену
+    // можно выдать заранее, а часы запустить, когда работа действительно начинается
+    public WordleHintDeadline limit(Duration budget) {
+        WordleHintDeadline limited = after(budget);
+        return this == NONE ? limited : new WordleHintDeadline(limited.deadlineNanos, true, this);
+    }
+
+    public void cancel() {
+        if (this == NONE) {
+            throw new WordleSystemException("Подсказку без срока нельзя отменить");
+        }
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || parent != null && parent.isCancelled();
+    }
+
+    public boolean isExpired() {
+        return isCancelled() || bounded && System.nanoTime() - deadlineNanos >= 0;
+    }
+}
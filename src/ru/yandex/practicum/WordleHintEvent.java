@@ -0,0 +1,47 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Поля состояния фильтра - те же, что печатает отладочный отчет WordleGame.logHintFilterState
+@Name("ru.yandex.practicum.HintComputation")
+@Label("Вычисление подсказки")
+@Category("Wordle")
+class WordleHintEvent extends jdk.jfr.Event {
+
+    @Label("Подсказка")
+    String hint;
+
+    @Label("Источник")
+    @Description("openingBook, cache, имя стратегии, heuristic или random")
+    String strategy;
+
+    @Label("Срок истек")
+    @Description("Срок вышел или подсказку отменили; стратегия могла оценить не все догадки")
+    boolean deadlineExpired;
+
+    @Label("Сделано догадок")
+    int attempt;
+
+    @Label("Кандидатов до")
+    @Description("Слова, согласные со всеми паттернами; -1, если ответ дала дебютная книга до построения множества")
+    int candidatesBefore;
+
+    @Label("Кандидатов после")
+    @Description("Кандидаты без уже названных слов, из них выбирается подсказка")
+    int candidatesAfter;
+
+    @Label("Известные позиции")
+    String correctPositions;
+
+    @Label("Присутствующие буквы")
+    String presentLetters;
+
+    @Label("Отсутствующие буквы")
+    String absentLetters;
+
+    @Label("Минимальные количества букв")
+    String minLetterCounts;
+}
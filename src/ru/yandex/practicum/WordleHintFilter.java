@@ -8,8 +8,18 @@ public class WordleHintFilter {
     private final Set<Character> absent = new HashSet<>();
     private final Map<Character, Integer> minCount = new HashMap<>();
 
+    // То же состояние в кодах WordleAlphabet для проверки упакованных слов
+    private final int[] correctCodes = new int[5];
+    private int presentMask;
+    private int absentMask;
+    private int minCountMask;
+    private final int[] minCountCodes = new int[WordleAlphabet.LETTER_COUNT];
+    // В ограничениях есть буква вне алфавита - ни один упакованный код не подходит
+    private boolean unmatchableCodes;
+
     public WordleHintFilter() {
         Arrays.fill(correct, '_');
+        Arrays.fill(correctCodes, -1);
     }
 
     public void updateFromGuess(String guess, String pattern, String answer) {
@@ -18,8 +28,8 @@ public class WordleHintFilter {
             return;
         }
 
-        guess = Wordle.normalizeWord(guess);
-        answer = Wordle.normalizeWord(answer);
+        guess = WordleAlphabet.normalize(guess);
+        answer = WordleAlphabet.normalize(answer);
 
         Map<Character, Integer> answerFreq = getCharacterFrequency(answer);
         Map<Character, Integer> confirmed = new HashMap<>();
@@ -30,6 +40,69 @@ public class WordleHintFilter {
         processGrayPositions(guess, pattern, answerFreq, confirmed);
     }
 
+    public void updateFromGuess(int guessCode, String pattern, int answerCode) {
+        if (answerCode == WordleAlphabet.INVALID_WORD) {
+            return;
+        }
+        updateFromGuess(guessCode, WordleFeedback.parse(pattern));
+    }
+
+    // Паттерн в разрядах WordleFeedback. Загаданное слово не нужно: серая буква без зеленых и
+    // желтых копий в той же догадке в ответе отсутствует. Коллекции символов для отчетов
+    // пополняются только при появлении нового знания, поэтому повторные догадки не выделяют память
+    public void updateFromGuess(int guessCode, int pattern) {
+        if (guessCode == WordleAlphabet.INVALID_WORD || pattern < 0 || pattern >= WordleFeedback.PATTERN_COUNT) {
+            return;
+        }
+
+        int confirmedPositions = 0;
+        int confirmedLetters = 0;
+        int rest = pattern;
+        for (int i = 0; i < 5; i++, rest /= 3) {
+            int digit = rest % 3;
+            if (digit == WordleFeedback.ABSENT) {
+                continue;
+            }
+            int code = WordleAlphabet.letterAt(guessCode, i);
+            confirmedPositions |= 1 << i;
+            confirmedLetters |= letterBit(code);
+            if (digit == WordleFeedback.CORRECT) {
+                if (correctCodes[i] != code) {
+                    correctCodes[i] = code;
+                    correct[i] = WordleAlphabet.letter(code);
+                }
+            } else if ((presentMask & letterBit(code)) == 0) {
+                presentMask |= letterBit(code);
+                present.add(WordleAlphabet.letter(code));
+            }
+        }
+
+        int pending = confirmedLetters;
+        while (pending != 0) {
+            int code = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            int count = 0;
+            for (int i = 0; i < 5; i++) {
+                if ((confirmedPositions & (1 << i)) != 0 && WordleAlphabet.letterAt(guessCode, i) == code) {
+                    count++;
+                }
+            }
+            if ((minCountMask & letterBit(code)) == 0 || count > minCountCodes[code]) {
+                minCountMask |= letterBit(code);
+                minCountCodes[code] = count;
+                minCount.put(WordleAlphabet.letter(code), count);
+            }
+        }
+
+        for (int i = 0; i < 5; i++) {
+            int bit = letterBit(WordleAlphabet.letterAt(guessCode, i));
+            if ((confirmedPositions & (1 << i)) == 0 && (confirmedLetters & bit) == 0 && (absentMask & bit) == 0) {
+                absentMask |= bit;
+                absent.add(WordleAlphabet.letter(WordleAlphabet.letterAt(guessCode, i)));
+            }
+        }
+    }
+
     private boolean isValidInput(String guess, String pattern, String answer) {
         return guess != null && pattern != null && answer != null &&
                 guess.length() == 5 && pattern.length() == 5 && answer.length() == 5 &&
@@ -60,6 +133,7 @@ public class WordleHintFilter {
             if (pattern.charAt(i) == '+') {
                 char ch = guess.charAt(i);
                 correct[i] = ch;
+                correctCodes[i] = letterCodeOrUnmatchable(ch);
                 confirmed.merge(ch, 1, Integer::sum);
             }
         }
@@ -76,6 +150,7 @@ public class WordleHintFilter {
 
                 if (currentConfirmed < requiredInAnswer) {
                     present.add(ch);
+                    presentMask |= letterBit(letterCodeOrUnmatchable(ch));
                     confirmed.merge(ch, 1, Integer::sum);
                 }
             }
@@ -84,7 +159,12 @@ public class WordleHintFilter {
 
     private void updateMinCounts(Map<Character, Integer> confirmed) {
         for (Map.Entry<Character, Integer> entry : confirmed.entrySet()) {
-            minCount.merge(entry.getKey(), entry.getValue(), Math::max);
+            int merged = minCount.merge(entry.getKey(), entry.getValue(), Math::max);
+            int code = letterCodeOrUnmatchable(entry.getKey());
+            if (code >= 0) {
+                minCountMask |= letterBit(code);
+                minCountCodes[code] = merged;
+            }
         }
     }
 
@@ -97,8 +177,10 @@ public class WordleHintFilter {
                 int currentConfirmed = confirmed.getOrDefault(ch, 0);
                 int requiredInAnswer = answerFreq.getOrDefault(ch, 0);
 
-                if (currentConfirmed >= requiredInAnswer) {
+                // Серая копия уже подтвержденной буквы ограничивает только число повторов, а не исключает букву
+                if (currentConfirmed == 0 && requiredInAnswer == 0) {
                     absent.add(ch);
+                    absentMask |= letterBit(WordleAlphabet.letterCode(ch));
                 }
             }
         }
@@ -109,7 +191,7 @@ public class WordleHintFilter {
             return false;
         }
 
-        word = Wordle.normalizeWord(word);
+        word = WordleAlphabet.normalize(word);
 
         return checkCorrectPositions(word) &&
                 checkAbsentLetters(word) &&
@@ -117,6 +199,93 @@ public class WordleHintFilter {
                 checkMinCounts(word);
     }
 
+    public boolean matches(int wordCode) {
+        if (wordCode == WordleAlphabet.INVALID_WORD || unmatchableCodes) {
+            return false;
+        }
+
+        int letters = 0;
+        for (int i = 0; i < 5; i++) {
+            int code = WordleAlphabet.letterAt(wordCode, i);
+            if (correctCodes[i] >= 0 && correctCodes[i] != code) {
+                return false;
+            }
+            letters |= letterBit(code);
+        }
+        if ((letters & absentMask) != 0 || (letters & presentMask) != presentMask) {
+            return false;
+        }
+
+        int pending = minCountMask;
+        while (pending != 0) {
+            int code = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            if (countLetter(wordCode, code) < minCountCodes[code]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Компилирует состояние фильтра в битовую маску id подходящих слов словаря
+    public long[] compile(WordleLetterIndex index) {
+        long[] result = index.newAllWords();
+        if (unmatchableCodes) {
+            Arrays.fill(result, 0L);
+            return result;
+        }
+
+        for (int i = 0; i < 5; i++) {
+            if (correctCodes[i] >= 0) {
+                WordleLetterIndex.and(result, index.positionLetter(i, correctCodes[i]));
+            }
+        }
+
+        int pending = absentMask;
+        while (pending != 0) {
+            int code = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            WordleLetterIndex.andNot(result, index.letterPresent(code));
+        }
+
+        pending = presentMask & ~minCountMask;
+        while (pending != 0) {
+            int code = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            WordleLetterIndex.and(result, index.letterPresent(code));
+        }
+
+        pending = minCountMask;
+        while (pending != 0) {
+            int code = Integer.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+            WordleLetterIndex.and(result, index.letterCountAtLeast(code, minCountCodes[code]));
+        }
+        return result;
+    }
+
+    private static int countLetter(int wordCode, int letterCode) {
+        int count = 0;
+        for (int i = 0; i < 5; i++) {
+            if (WordleAlphabet.letterAt(wordCode, i) == letterCode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int letterCodeOrUnmatchable(char ch) {
+        int code = WordleAlphabet.letterCode(ch);
+        if (code < 0) {
+            unmatchableCodes = true;
+        }
+        return code;
+    }
+
+    private static int letterBit(int letterCode) {
+        return letterCode < 0 ? 0 : 1 << letterCode;
+    }
+
     private boolean checkCorrectPositions(String word) {
         for (int i = 0; i < 5; i++) {
             if (correct[i] != '_' && correct[i] != word.charAt(i)) {
@@ -159,6 +328,12 @@ public class WordleHintFilter {
         present.clear();
         absent.clear();
         minCount.clear();
+        Arrays.fill(correctCodes, -1);
+        presentMask = 0;
+        absentMask = 0;
+        minCountMask = 0;
+        Arrays.fill(minCountCodes, 0);
+        unmatchableCodes = false;
     }
 
     public Set<Character> getPresentLetters() {
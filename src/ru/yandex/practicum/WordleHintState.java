@@ -0,0 +1,142 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+
+// Каноническое знание о загаданном слове после серии догадок: известные буквы по позициям,
+// запрещенные на позициях буквы и границы числа повторов каждой буквы. Разные истории, дающие
+// одно и то же множество согласных слов, дают равные состояния - по ним подсказки делятся между играми
+public final class WordleHintState {
+
+    private static final int WORD_LENGTH = WordleAlphabet.WORD_LENGTH;
+    private static final int LETTER_COUNT = WordleAlphabet.LETTER_COUNT;
+    private static final int UNBOUNDED = WORD_LENGTH;
+
+    // [0] - известные буквы (по 6 бит на позицию, 0 - неизвестна),
+    // [1..3] - маски запрещенных букв по позициям (по 32 бита),
+    // [4..7] - минимум и максимум повторов (по 3 бита каждого на букву, по 10 букв на элемент)
+    private final long[] key;
+    private final int hash;
+
+    private WordleHintState(long[] key) {
+        this.key = key;
+        this.hash = Arrays.hashCode(key);
+    }
+
+    public static WordleHintState fromHistory(int[] guessCodes, int[] patterns, int length) {
+        int[] fixed = new int[WORD_LENGTH];
+        Arrays.fill(fixed, -1);
+        int[] banned = new int[WORD_LENGTH];
+        int[] minCount = new int[LETTER_COUNT];
+        int[] maxCount = new int[LETTER_COUNT];
+        Arrays.fill(maxCount, UNBOUNDED);
+
+        int[] confirmed = new int[LETTER_COUNT];
+        for (int turn = 0; turn < length; turn++) {
+            int guess = guessCodes[turn];
+            int pattern = patterns[turn];
+            int greyLetters = 0;
+            for (int i = 0; i < WORD_LENGTH; i++) {
+                int letter = WordleAlphabet.letterAt(guess, i);
+                int digit = WordleFeedback.digitAt(pattern, i);
+                if (digit == WordleFeedback.CORRECT) {
+                    fixed[i] = letter;
+                    confirmed[letter]++;
+                } else {
+                    banned[i] |= 1 << letter;
+                    if (digit == WordleFeedback.PRESENT) {
+                        confirmed[letter]++;
+                    } else {
+                        greyLetters |= 1 << letter;
+                    }
+                }
+            }
+            int processed = 0;
+            for (int i = 0; i < WORD_LENGTH; i++) {
+                int letter = WordleAlphabet.letterAt(guess, i);
+                if ((processed & (1 << letter)) != 0) {
+                    continue;
+                }
+                processed |= 1 << letter;
+                minCount[letter] = Math.max(minCount[letter], confirmed[letter]);
+                // Серая копия буквы означает, что подтвержденных копий ровно столько, сколько найдено
+                if ((greyLetters & (1 << letter)) != 0) {
+                    maxCount[letter] = Math.min(maxCount[letter], confirmed[letter]);
+                }
+                confirmed[letter] = 0;
+            }
+        }
+
+        // Приведение к канонической форме: максимум повторов не больше числа позиций, где буква
+        // еще возможна, а запреты букв, все копии которых уже найдены, следуют из границ и стираются
+        int[] fixedCount = new int[LETTER_COUNT];
+        int[] possible = new int[LETTER_COUNT];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (fixed[i] >= 0) {
+                fixedCount[fixed[i]]++;
+                possible[fixed[i]]++;
+            } else {
+                for (int letter = 0; letter < LETTER_COUNT; letter++) {
+                    if ((banned[i] & (1 << letter)) == 0) {
+                        possible[letter]++;
+                    }
+                }
+            }
+        }
+        int saturatedLetters = 0;
+        for (int letter = 0; letter < LETTER_COUNT; letter++) {
+            maxCount[letter] = Math.min(maxCount[letter], possible[letter]);
+            if (maxCount[letter] == fixedCount[letter]) {
+                saturatedLetters |= 1 << letter;
+            }
+        }
+        long[] key = new long[8];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (fixed[i] >= 0) {
+                key[0] |= (long) (fixed[i] + 1) << (i * 6);
+                banned[i] = 0;
+            } else {
+                banned[i] &= ~saturatedLetters;
+            }
+            key[1 + i / 2] |= (banned[i] & 0xFFFFFFFFL) << ((i % 2) * 32);
+        }
+        for (int letter = 0; letter < LETTER_COUNT; letter++) {
+            long bounds = minCount[letter] | (long) maxCount[letter] << 3;
+            key[4 + letter / 10] |= bounds << ((letter % 10) * 6);
+        }
+        return new WordleHintState(key);
+    }
+
+    // Проверка слова по состоянию; совпадает с согласованностью со всей историей догадок
+    public boolean matches(int wordCode) {
+        int[] counts = new int[LETTER_COUNT];
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            int letter = WordleAlphabet.letterAt(wordCode, i);
+            int fixed = (int) (key[0] >>> (i * 6)) & 0x3F;
+            if (fixed != 0 && fixed - 1 != letter) {
+                return false;
+            }
+            int banned = (int) (key[1 + i / 2] >>> ((i % 2) * 32));
+            if ((banned & (1 << letter)) != 0) {
+                return false;
+            }
+            counts[letter]++;
+        }
+        for (int letter = 0; letter < LETTER_COUNT; letter++) {
+            int bounds = (int) (key[4 + letter / 10] >>> ((letter % 10) * 6)) & 0x3F;
+            if (counts[letter] < (bounds & 7) || counts[letter] > bounds >>> 3) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WordleHintState && Arrays.equals(key, ((WordleHintState) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
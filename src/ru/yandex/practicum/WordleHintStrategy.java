@@ -0,0 +1,16 @@
+package ru.yandex.practicum;
+
+public interface WordleHintStrategy {
+
+    String getName();
+
+    // candidateIds[0..candidateCount) - id слов словаря, которые еще могут быть ответом
+    int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount);
+
+    // Стратегия, которой нужно заметное время, проверяет deadline и, когда он истек, возвращает
+    // лучшую из оцененных догадок. Быстрым стратегиям срок не нужен
+    default int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount,
+                           WordleHintDeadline deadline) {
+        return selectHint(dictionary, candidateIds, candidateCount);
+    }
+}
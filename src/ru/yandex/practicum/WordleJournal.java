@@ -0,0 +1,584 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Журнал событий партий для разбора споров и аналитики. Записи фиксированного размера дописываются
+// в файлы-сегменты через FileChannel; сегмент закрывается, когда в нем кончается место.
+// Писатели только кладут запись в буфер, а фоновый поток пишет накопленное одной пачкой
+// и делает один fsync на всю пачку (group commit). Партия в журнале - id партии: номер ее записи
+// CREATED, сквозной по всем сегментам и запускам, поэтому он не повторяется, даже когда
+// повторяются id сессий сервера или консоли
+public class WordleJournal implements AutoCloseable {
+
+    public enum EventType {
+        CREATED,
+        GUESS,
+        HINT,
+        FINISHED
+    }
+
+    // id партии, время, тип, значение, резерв, номер попытки, код слова, CRC32C первых 28 байт
+    public static final int RECORD_SIZE = 32;
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    public static final int DEFAULT_BATCH_RECORDS = 16_384;
+
+    private static final int MAGIC = 0x574A4E4C; // "WJNL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".wjl";
+    private static final String LOCK_FILE = "journal.lock";
+    private static final EventType[] TYPES = EventType.values();
+
+    private final Path directory;
+    private final long segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition durableAdvanced = lock.newCondition();
+    private final CRC32C crc = new CRC32C();
+    // Писатели заполняют active, пока фоновый поток пишет предыдущую пачку; spare == null - пачка в записи
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    // Номер последней добавленной и последней записанной с fsync записи, сквозной по всем сегментам
+    private long appended;
+    private long durable;
+    private boolean closed;
+    private IOException failure;
+    // Текущий сегмент принадлежит фоновому потоку
+    private FileChannel channel;
+    private long segmentIndex;
+    private long segmentPosition;
+    // Блокировка каталога на все время работы: второй процесс иначе обрезал бы активный сегмент
+    private FileChannel lockChannel;
+    private final Thread writer;
+
+    public WordleJournal(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_BATCH_RECORDS);
+    }
+
+    public WordleJournal(Path directory, long segmentSize, int batchRecords) {
+        if (directory == null) {
+            throw new WordleSystemException("Каталог журнала не может быть null");
+        }
+        if (segmentSize < HEADER_SIZE + RECORD_SIZE || batchRecords <= 0) {
+            throw new WordleSystemException("Неверные параметры журнала: сегмент " + segmentSize
+                    + " байт, пачка " + batchRecords + " записей");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.active = ByteBuffer.allocate(batchRecords * RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+        this.spare = ByteBuffer.allocate(batchRecords * RECORD_SIZE).order(ByteOrder.BIG_ENDIAN);
+        try {
+            Files.createDirectories(directory);
+            lockDirectory();
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка открытия журнала: " + e.getMessage(), e);
+        }
+        boolean opened = false;
+        try {
+            openLastSegment();
+            opened = true;
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка открытия журнала: " + e.getMessage(), e);
+        } finally {
+            // Битый заголовок или имя сегмента тоже не должны оставить каталог заблокированным
+            if (!opened) {
+                closeSegmentChannel();
+                closeLockChannel();
+            }
+        }
+        this.writer = new Thread(this::writeLoop, "wordle-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Открывает партию: пишет CREATED с кодом загаданного слова и возвращает id партии
+    public long appendCreated(int answerCode) {
+        return appendRecord(EventType.CREATED, 0, 0, answerCode, 0);
+    }
+
+    // Номер записи; на диске она окажется после ближайшего fsync, дождаться его можно через sync.
+    // До fsync запись может пропасть при сбое - подтверждать ход клиенту стоит после sync
+    public long append(EventType type, long gameId, int attempt, int wordCode, int value) {
+        if (type == null) {
+            throw new WordleSystemException("Тип события не может быть null");
+        }
+        if (type == EventType.CREATED) {
+            throw new WordleSystemException("Партия открывается через appendCreated");
+        }
+        return appendRecord(type, gameId, attempt, wordCode, value);
+    }
+
+    // У CREATED id партии - номер самой записи, он известен только под блокировкой
+    private long appendRecord(EventType type, long gameId, int attempt, int wordCode, int value) {
+        if (value < 0 || value > 0xFF) {
+            throw new WordleSystemException("Значение события вне диапазона: " + value);
+        }
+        lock.lock();
+        try {
+            while (!closed && failure == null && active.remaining() < RECORD_SIZE) {
+                notFull.awaitUninterruptibly();
+            }
+            checkOpen();
+            int start = active.position();
+            long sequence = appended + 1;
+            active.putLong(type == EventType.CREATED ? sequence : gameId).putLong(System.currentTimeMillis())
+                    .put((byte) type.ordinal()).put((byte) value).putShort((short) 0)
+                    .putInt(attempt).putInt(wordCode);
+            crc.reset();
+            crc.update(active.array(), start, RECORD_SIZE - Integer.BYTES);
+            active.putInt((int) crc.getValue());
+            if (start == 0) {
+                notEmpty.signal();
+            }
+            appended = sequence;
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Ждет, пока запись с этим номером и все до нее не окажутся на диске
+    public void sync(long sequence) {
+        lock.lock();
+        try {
+            while (durable < sequence && failure == null && writer.isAlive()) {
+                durableAdvanced.awaitUninterruptibly();
+            }
+            if (durable < sequence) {
+                throw failure != null
+                        ? new WordleSystemException("Ошибка записи журнала: " + failure.getMessage(), failure)
+                        : new WordleSystemException("Журнал закрыт");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        long target;
+        lock.lock();
+        try {
+            target = appended;
+        } finally {
+            lock.unlock();
+        }
+        sync(target);
+    }
+
+    public long getAppendedCount() {
+        lock.lock();
+        try {
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDurableCount() {
+        lock.lock();
+        try {
+            return durable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeSegmentChannel();
+        closeLockChannel();
+        if (failure != null) {
+            throw new WordleSystemException("Ошибка записи журнала: " + failure.getMessage(), failure);
+        }
+    }
+
+    private void lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock directoryLock;
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Каталог уже открыт в этом же процессе
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            closeLockChannel();
+            throw new WordleSystemException("Каталог журнала уже используется: " + directory);
+        }
+    }
+
+    private void closeSegmentChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Ошибка закрытия журнала: " + e.getMessage());
+        }
+    }
+
+    // Закрытие канала снимает и блокировку каталога
+    private void closeLockChannel() {
+        try {
+            lockChannel.close();
+        } catch (IOException e) {
+            System.err.println("Ошибка снятия блокировки журнала: " + e.getMessage());
+        }
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new WordleSystemException("Ошибка записи журнала: " + failure.getMessage(), failure);
+        }
+        if (closed) {
+            throw new WordleSystemException("Журнал закрыт");
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            ByteBuffer batch;
+            long batchEnd;
+            lock.lock();
+            try {
+                while (active.position() == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (active.position() == 0) {
+                    return;
+                }
+                batch = active;
+                active = spare;
+                spare = null;
+                batchEnd = appended;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                batch.flip();
+                writeBatch(batch);
+                channel.force(false);
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    notFull.signalAll();
+                    durableAdvanced.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                batch.clear();
+                spare = batch;
+                durable = batchEnd;
+                durableAdvanced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Запись не разрезается между сегментами: в сегмент уходит столько целых записей, сколько влезает
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        int limit = batch.limit();
+        while (batch.position() < limit) {
+            if (segmentPosition + RECORD_SIZE > segmentSize) {
+                rollSegment();
+            }
+            long room = (segmentSize - segmentPosition) / RECORD_SIZE * RECORD_SIZE;
+            batch.limit((int) Math.min(limit, batch.position() + room));
+            while (batch.hasRemaining()) {
+                segmentPosition += channel.write(batch);
+            }
+            batch.limit(limit);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        segmentIndex++;
+        channel = createSegment(segmentIndex);
+        segmentPosition = HEADER_SIZE;
+    }
+
+    private FileChannel createSegment(long index) throws IOException {
+        FileChannel created = FileChannel.open(segmentPath(directory, index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        writeHeader(created, index);
+        return created;
+    }
+
+    private static void writeHeader(FileChannel target, long index) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(index);
+        header.flip();
+        while (header.hasRemaining()) {
+            target.write(header, HEADER_SIZE - header.remaining());
+        }
+        target.position(HEADER_SIZE);
+    }
+
+    // Хвост последнего сегмента после сбоя может быть оборван: он отрезается по первой битой записи
+    private void openLastSegment() throws IOException {
+        List<Path> segments = listSegments(directory);
+        if (segments.isEmpty()) {
+            segmentIndex = 1;
+            channel = createSegment(segmentIndex);
+            segmentPosition = HEADER_SIZE;
+            return;
+        }
+        long records = 0;
+        for (int i = 0; i < segments.size() - 1; i++) {
+            records += (Files.size(segments.get(i)) - HEADER_SIZE) / RECORD_SIZE;
+        }
+        Path last = segments.get(segments.size() - 1);
+        segmentIndex = indexOf(last);
+        channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_SIZE) {
+            channel.truncate(0);
+            writeHeader(channel, segmentIndex);
+            segmentPosition = HEADER_SIZE;
+        } else {
+            segmentPosition = scanSegment(last, 0, null);
+            channel.truncate(segmentPosition);
+            channel.position(segmentPosition);
+        }
+        records += (segmentPosition - HEADER_SIZE) / RECORD_SIZE;
+        appended = records;
+        durable = records;
+    }
+
+    // Все события всех сегментов по порядку записи
+    public static void replay(Path directory, Consumer<Event> consumer) {
+        if (directory == null || consumer == null) {
+            throw new WordleSystemException("Каталог журнала и обработчик не могут быть null");
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            // Номера записей считаются так же, как при открытии журнала: по размерам сегментов
+            long firstSequence = 1;
+            for (Path segment : listSegments(directory)) {
+                scanSegment(segment, firstSequence, consumer);
+                firstSequence += Math.max(0, Files.size(segment) - HEADER_SIZE) / RECORD_SIZE;
+            }
+        } catch (IOException e) {
+            throw new WordleSystemException("Ошибка чтения журнала: " + e.getMessage(), e);
+        }
+    }
+
+    // Состояние партии по id из appendCreated
+    public static WordleGame restoreGame(Path directory, long gameId, WordleDictionary dictionary, WordleLogger logger) {
+        if (dictionary == null || logger == null) {
+            throw new WordleSystemException("Словарь и логгер не могут быть null");
+        }
+        GameHistory history = new GameHistory(gameId);
+        replay(directory, history);
+        if (history.answerCode == null) {
+            throw new WordleGameException("Партии нет в журнале: " + gameId);
+        }
+        int answerId = dictionary.indexOfCode(history.answerCode);
+        int[] guessIds = new int[history.length];
+        for (int turn = 0; turn < history.length; turn++) {
+            guessIds[turn] = dictionary.indexOfCode(history.guessCodes[turn]);
+            if (guessIds[turn] < 0) {
+                answerId = -1;
+            }
+        }
+        if (answerId < 0) {
+            throw new WordleSystemException("Слов партии " + gameId + " из журнала нет в словаре");
+        }
+        return new WordleGame(dictionary, logger, answerId, guessIds, history.patterns, history.length);
+    }
+
+    // Конец последней целой записи; consumer == null - только проверка. firstSequence - номер
+    // первой записи сегмента
+    private static long scanSegment(Path segment, long firstSequence, Consumer<Event> consumer) throws IOException {
+        try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = source.size();
+            if (size < HEADER_SIZE) {
+                return HEADER_SIZE;
+            }
+            MappedByteBuffer buffer = source.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new WordleSystemException("Поврежден заголовок сегмента журнала: " + segment);
+            }
+            buffer.getLong();
+            CRC32C check = new CRC32C();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                int start = buffer.position();
+                check.reset();
+                check.update(buffer.slice(start, RECORD_SIZE - Integer.BYTES));
+                if (buffer.getInt(start + RECORD_SIZE - Integer.BYTES) != (int) check.getValue()) {
+                    break;
+                }
+                long gameId = buffer.getLong();
+                long timestamp = buffer.getLong();
+                int type = buffer.get();
+                int value = buffer.get() & 0xFF;
+                buffer.getShort();
+                int attempt = buffer.getInt();
+                int wordCode = buffer.getInt();
+                buffer.getInt();
+                if (type < 0 || type >= TYPES.length) {
+                    return start;
+                }
+                if (consumer != null) {
+                    long sequence = firstSequence + (start - HEADER_SIZE) / RECORD_SIZE;
+                    consumer.accept(new Event(TYPES[type], sequence, gameId, timestamp, attempt, wordCode, value));
+                }
+            }
+            return buffer.position();
+        }
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).forEach(segments::add);
+        }
+        segments.sort((a, b) -> Long.compare(indexOf(a), indexOf(b)));
+        return segments;
+    }
+
+    private static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new WordleSystemException("Неверное имя сегмента журнала: " + name, e);
+        }
+    }
+
+    private static final class GameHistory implements Consumer<Event> {
+
+        private final long gameId;
+        private Integer answerCode;
+        private final int[] guessCodes = new int[WordleSessionStore.MAX_ATTEMPTS];
+        private final int[] patterns = new int[WordleSessionStore.MAX_ATTEMPTS];
+        private int length;
+
+        private GameHistory(long gameId) {
+            this.gameId = gameId;
+        }
+
+        @Override
+        public void accept(Event event) {
+            if (event.getGameId() != gameId) {
+                return;
+            }
+            if (event.getType() == EventType.CREATED) {
+                answerCode = event.getWordCode();
+            } else if (event.getType() == EventType.GUESS && answerCode != null && length < guessCodes.length) {
+                guessCodes[length] = event.getWordCode();
+                patterns[length] = event.getValue();
+                length++;
+            }
+        }
+    }
+
+    // CREATED: код загаданного слова, id партии совпадает с номером записи; GUESS: код догадки
+    // и паттерн; HINT: код подсказки; FINISHED: код загаданного слова и 1 - выигрыш, 0 - проигрыш
+    public static final class Event {
+
+        private final EventType type;
+        private final long sequence;
+        private final long gameId;
+        private final long timestamp;
+        private final int attempt;
+        private final int wordCode;
+        private final int value;
+
+        private Event(EventType type, long sequence, long gameId, long timestamp, int attempt, int wordCode,
+                      int value) {
+            this.type = type;
+            this.sequence = sequence;
+            this.gameId = gameId;
+            this.timestamp = timestamp;
+            this.attempt = attempt;
+            this.wordCode = wordCode;
+            this.value = value;
+        }
+
+        public EventType getType() {
+            return type;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getGameId() {
+            return gameId;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public int getAttempt() {
+            return attempt;
+        }
+
+        public int getWordCode() {
+            return wordCode;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
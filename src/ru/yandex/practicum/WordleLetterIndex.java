@@ -0,0 +1,111 @@
+package ru.yandex.practicum;
+
+public class WordleLetterIndex {
+
+    private static final int WORD_LENGTH = WordleAlphabet.WORD_LENGTH;
+    private static final int LETTER_COUNT = WordleAlphabet.LETTER_COUNT;
+
+    private final int wordCount;
+    // Инвертированные индексы: бит id выставлен, если слово удовлетворяет условию
+    private final long[][] positionLetter = new long[WORD_LENGTH * LETTER_COUNT][];
+    // letterCount[letter * WORD_LENGTH + k - 1] - слова, где буква встречается не меньше k раз
+    private final long[][] letterCount = new long[LETTER_COUNT * WORD_LENGTH][];
+    private final long[] allWords;
+    private final long[] noWords;
+
+    public WordleLetterIndex(int[] wordCodes) {
+        this.wordCount = wordCodes.length;
+        int blockCount = (wordCount + 63) >>> 6;
+
+        for (int i = 0; i < positionLetter.length; i++) {
+            positionLetter[i] = new long[blockCount];
+        }
+        for (int i = 0; i < letterCount.length; i++) {
+            letterCount[i] = new long[blockCount];
+        }
+        this.noWords = new long[blockCount];
+        this.allWords = new long[blockCount];
+        for (int id = 0; id < wordCount; id++) {
+            allWords[id >>> 6] |= 1L << id;
+        }
+
+        int[] counts = new int[LETTER_COUNT];
+        for (int id = 0; id < wordCount; id++) {
+            int wordCode = wordCodes[id];
+            long bit = 1L << id;
+            int block = id >>> 6;
+            for (int pos = 0; pos < WORD_LENGTH; pos++) {
+                int letter = WordleAlphabet.letterAt(wordCode, pos);
+                positionLetter[pos * LETTER_COUNT + letter][block] |= bit;
+                counts[letter]++;
+                letterCount[letter * WORD_LENGTH + counts[letter] - 1][block] |= bit;
+            }
+            for (int pos = 0; pos < WORD_LENGTH; pos++) {
+                counts[WordleAlphabet.letterAt(wordCode, pos)] = 0;
+            }
+        }
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public long[] newAllWords() {
+        return allWords.clone();
+    }
+
+    public long[] positionLetter(int position, int letterCode) {
+        return positionLetter[position * LETTER_COUNT + letterCode];
+    }
+
+    public long[] letterPresent(int letterCode) {
+        return letterCountAtLeast(letterCode, 1);
+    }
+
+    public long[] letterCountAtLeast(int letterCode, int count) {
+        if (count <= 0) {
+            return allWords;
+        }
+        if (count > WORD_LENGTH) {
+            return noWords;
+        }
+        return letterCount[letterCode * WORD_LENGTH + count - 1];
+    }
+
+    public static void and(long[] target, long[] mask) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= mask[i];
+        }
+    }
+
+    public static void andNot(long[] target, long[] mask) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= ~mask[i];
+        }
+    }
+
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long block : bits) {
+            count += Long.bitCount(block);
+        }
+        return count;
+    }
+
+    public static int nextSetBit(long[] bits, int from) {
+        int block = from >>> 6;
+        if (block >= bits.length) {
+            return -1;
+        }
+        long word = bits[block] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (block << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++block == bits.length) {
+                return -1;
+            }
+            word = bits[block];
+        }
+    }
+}
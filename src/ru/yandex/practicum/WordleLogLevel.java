@@ -0,0 +1,8 @@
+package ru.yandex.practicum;
+
+public enum WordleLogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR
+}
@@ -0,0 +1,249 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+public class WordleLogger implements AutoCloseable {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private static final int MAX_BATCH = 256;
+
+    private final WordleLogLevel minLevel;
+    private final PrintWriter directWriter;
+
+    // Асинхронный режим: кольцевой буфер с последовательностями слотов, много писателей и один читатель
+    private final Writer sink;
+    private final OverflowPolicy overflowPolicy;
+    private final String[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long head;
+    private volatile long written;
+    private volatile boolean drainerParked;
+    private volatile boolean closed;
+    private final Thread drainer;
+
+    private WordleLogger(PrintWriter directWriter, WordleLogLevel minLevel) {
+        this.minLevel = minLevel;
+        this.directWriter = directWriter;
+        this.sink = null;
+        this.overflowPolicy = null;
+        this.slots = null;
+        this.sequences = null;
+        this.mask = 0;
+        this.drainer = null;
+    }
+
+    private WordleLogger(Writer sink, WordleLogLevel minLevel, int capacity, OverflowPolicy overflowPolicy) {
+        this.minLevel = minLevel;
+        this.directWriter = null;
+        this.sink = sink;
+        this.overflowPolicy = overflowPolicy;
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new String[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.drainer = new Thread(this::drainLoop, "wordle-logger");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    // Синхронная запись в PrintWriter вызывающего: для тестов и утилит, где порядок важнее задержки
+    public static WordleLogger synchronous(PrintWriter writer) {
+        return synchronous(writer, WordleLogLevel.DEBUG);
+    }
+
+    public static WordleLogger synchronous(PrintWriter writer, WordleLogLevel minLevel) {
+        if (writer == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        return new WordleLogger(writer, minLevel);
+    }
+
+    // Запись в фоновом потоке пачками; sink закрывается вместе с логгером
+    public static WordleLogger async(Writer sink, WordleLogLevel minLevel, int capacity, OverflowPolicy overflowPolicy) {
+        if (sink == null || minLevel == null || overflowPolicy == null) {
+            throw new WordleSystemException("Параметры логгера не могут быть null");
+        }
+        if (capacity <= 0) {
+            throw new WordleSystemException("Емкость буфера логгера должна быть положительной: " + capacity);
+        }
+        return new WordleLogger(sink, minLevel, capacity, overflowPolicy);
+    }
+
+    public boolean isEnabled(WordleLogLevel level) {
+        return level.compareTo(minLevel) >= 0;
+    }
+
+    public void log(WordleLogLevel level, String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (directWriter != null) {
+            directWriter.println(message);
+            return;
+        }
+        publish(message);
+    }
+
+    public void log(WordleLogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
+    public void debug(Supplier<String> message) {
+        log(WordleLogLevel.DEBUG, message);
+    }
+
+    public void debug(String message) {
+        log(WordleLogLevel.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(WordleLogLevel.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(WordleLogLevel.WARN, message);
+    }
+
+    public void error(String message) {
+        log(WordleLogLevel.ERROR, message);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // Дожидается записи всех сообщений, опубликованных до вызова
+    public void flush() {
+        if (directWriter != null) {
+            directWriter.flush();
+            return;
+        }
+        long target = tail.get();
+        while (written < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (directWriter != null) {
+            directWriter.flush();
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            sink.close();
+        } catch (IOException e) {
+            System.err.println("Ошибка закрытия лога: " + e.getMessage());
+        }
+    }
+
+    private void publish(String message) {
+        // После close читателя больше нет: сообщение не пишется, но учитывается как потерянное
+        if (closed) {
+            dropped.increment();
+            return;
+        }
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = message;
+                    sequences.set(index, position + 1);
+                    if (drainerParked) {
+                        LockSupport.unpark(drainer);
+                    }
+                    // close мог завершиться между проверкой выше и захватом слота: читатель,
+                    // выходящий позже, дочитывает до tail, поэтому потерян слот только при мертвом читателе
+                    if (closed && !drainer.isAlive() && written <= position) {
+                        dropped.increment();
+                    }
+                    return;
+                }
+            } else if (difference < 0) {
+                // Буфер полон: читатель отстал на целый круг
+                if (overflowPolicy == OverflowPolicy.DROP || closed) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.unpark(drainer);
+                LockSupport.parkNanos(10_000L);
+            }
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder();
+        String lineSeparator = System.lineSeparator();
+        while (true) {
+            int count = 0;
+            while (count < MAX_BATCH) {
+                int index = (int) head & mask;
+                if (sequences.get(index) != head + 1) {
+                    break;
+                }
+                batch.append(slots[index]).append(lineSeparator);
+                slots[index] = null;
+                sequences.set(index, head + slots.length);
+                head++;
+                count++;
+            }
+
+            if (count > 0) {
+                try {
+                    sink.write(batch.toString());
+                    sink.flush();
+                } catch (IOException e) {
+                    System.err.println("Ошибка записи лога: " + e.getMessage());
+                }
+                batch.setLength(0);
+                written = head;
+                continue;
+            }
+
+            if (closed && head == tail.get()) {
+                return;
+            }
+            // Сон без таймаута: писатель публикует слот до чтения drainerParked, а читатель ставит флаг
+            // до повторной проверки слота, поэтому хотя бы один из них увидит другого и разбудит читателя.
+            // close и flush будят читателя сами
+            drainerParked = true;
+            if (sequences.get((int) head & mask) != head + 1 && !closed) {
+                LockSupport.park(this);
+            }
+            drainerParked = false;
+        }
+    }
+}
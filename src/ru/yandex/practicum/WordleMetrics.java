@@ -0,0 +1,211 @@
+package ru.yandex.practicum;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WordleMetrics implements WordleMetricsMXBean {
+
+    public static final String OBJECT_NAME = "ru.yandex.practicum:type=WordleMetrics";
+    private static final int MAX_ATTEMPTS = 6;
+
+    // Общий экземпляр процесса: его пишут игры, словарь и загрузчик, его же публикует JMX
+    private static final WordleMetrics GLOBAL = new WordleMetrics();
+
+    private final WordleHistogram checkGuessNanos = new WordleHistogram();
+    private final WordleHistogram generateHintNanos = new WordleHistogram();
+    private final WordleHistogram filteredWordsNanos = new WordleHistogram();
+    private final WordleHistogram loadDictionaryNanos = new WordleHistogram();
+    private final WordleHistogram[] candidatesByAttempt = new WordleHistogram[MAX_ATTEMPTS];
+    private final LongAdder hintCacheRebuilds = new LongAdder();
+    private final LongAdder candidateNarrowings = new LongAdder();
+    private final LongAdder hintCacheHits = new LongAdder();
+    private final LongAdder hintCacheMisses = new LongAdder();
+
+    public WordleMetrics() {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            candidatesByAttempt[i] = new WordleHistogram();
+        }
+    }
+
+    public static WordleMetrics global() {
+        return GLOBAL;
+    }
+
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            throw new WordleSystemException("Не удалось зарегистрировать метрики в JMX", e);
+        }
+    }
+
+    public void recordCheckGuess(long nanos) {
+        checkGuessNanos.record(nanos);
+    }
+
+    public void recordGenerateHint(long nanos) {
+        generateHintNanos.record(nanos);
+    }
+
+    public void recordFilteredWords(long nanos) {
+        filteredWordsNanos.record(nanos);
+    }
+
+    public void recordLoadDictionary(long nanos) {
+        loadDictionaryNanos.record(nanos);
+    }
+
+    public void recordCandidates(int attempt, int candidateCount) {
+        if (attempt >= 0 && attempt < MAX_ATTEMPTS) {
+            candidatesByAttempt[attempt].record(candidateCount);
+        }
+    }
+
+    public void recordHintCacheRebuild() {
+        hintCacheRebuilds.increment();
+    }
+
+    public void recordCandidateNarrowing() {
+        candidateNarrowings.increment();
+    }
+
+    public void recordHintCacheHit() {
+        hintCacheHits.increment();
+    }
+
+    public void recordHintCacheMiss() {
+        hintCacheMisses.increment();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    @Override
+    public WordleHistogram.Snapshot getCheckGuessNanos() {
+        return checkGuessNanos.snapshot();
+    }
+
+    @Override
+    public WordleHistogram.Snapshot getGenerateHintNanos() {
+        return generateHintNanos.snapshot();
+    }
+
+    @Override
+    public WordleHistogram.Snapshot getFilteredWordsNanos() {
+        return filteredWordsNanos.snapshot();
+    }
+
+    @Override
+    public WordleHistogram.Snapshot getLoadDictionaryNanos() {
+        return loadDictionaryNanos.snapshot();
+    }
+
+    @Override
+    public WordleHistogram.Snapshot[] getCandidatesByAttempt() {
+        WordleHistogram.Snapshot[] snapshots = new WordleHistogram.Snapshot[MAX_ATTEMPTS];
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            snapshots[i] = candidatesByAttempt[i].snapshot();
+        }
+        return snapshots;
+    }
+
+    @Override
+    public long getHintCacheRebuildCount() {
+        return hintCacheRebuilds.sum();
+    }
+
+    @Override
+    public long getCandidateNarrowingCount() {
+        return candidateNarrowings.sum();
+    }
+
+    @Override
+    public long getHintCacheHitCount() {
+        return hintCacheHits.sum();
+    }
+
+    @Override
+    public long getHintCacheMissCount() {
+        return hintCacheMisses.sum();
+    }
+
+    @Override
+    public double getHintCacheHitRate() {
+        long hits = hintCacheHits.sum();
+        long total = hits + hintCacheMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    // Все метрики разом; в тестах удобно сравнивать два среза до и после действия
+    public static class Snapshot {
+
+        private final WordleHistogram.Snapshot checkGuessNanos;
+        private final WordleHistogram.Snapshot generateHintNanos;
+        private final WordleHistogram.Snapshot filteredWordsNanos;
+        private final WordleHistogram.Snapshot loadDictionaryNanos;
+        private final WordleHistogram.Snapshot[] candidatesByAttempt;
+        private final long hintCacheRebuildCount;
+        private final long candidateNarrowingCount;
+        private final long hintCacheHitCount;
+        private final long hintCacheMissCount;
+
+        private Snapshot(WordleMetrics metrics) {
+            this.checkGuessNanos = metrics.getCheckGuessNanos();
+            this.generateHintNanos = metrics.getGenerateHintNanos();
+            this.filteredWordsNanos = metrics.getFilteredWordsNanos();
+            this.loadDictionaryNanos = metrics.getLoadDictionaryNanos();
+            this.candidatesByAttempt = metrics.getCandidatesByAttempt();
+            this.hintCacheRebuildCount = metrics.getHintCacheRebuildCount();
+            this.candidateNarrowingCount = metrics.getCandidateNarrowingCount();
+            this.hintCacheHitCount = metrics.getHintCacheHitCount();
+            this.hintCacheMissCount = metrics.getHintCacheMissCount();
+        }
+
+        public WordleHistogram.Snapshot getCheckGuessNanos() {
+            return checkGuessNanos;
+        }
+
+        public WordleHistogram.Snapshot getGenerateHintNanos() {
+            return generateHintNanos;
+        }
+
+        public WordleHistogram.Snapshot getFilteredWordsNanos() {
+            return filteredWordsNanos;
+        }
+
+        public WordleHistogram.Snapshot getLoadDictionaryNanos() {
+            return loadDictionaryNanos;
+        }
+
+        public WordleHistogram.Snapshot getCandidatesAtAttempt(int attempt) {
+            if (attempt < 0 || attempt >= MAX_ATTEMPTS) {
+                throw new WordleSystemException("Неверный номер попытки: " + attempt);
+            }
+            return candidatesByAttempt[attempt];
+        }
+
+        public long getHintCacheRebuildCount() {
+            return hintCacheRebuildCount;
+        }
+
+        public long getCandidateNarrowingCount() {
+            return candidateNarrowingCount;
+        }
+
+        public long getHintCacheHitCount() {
+            return hintCacheHitCount;
+        }
+
+        public long getHintCacheMissCount() {
+            return hintCacheMissCount;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.yandex.practicum;
+
+// Атрибуты JMX: длительности в наносекундах, размеры множеств кандидатов - в словах
+public interface WordleMetricsMXBean {
+
+    WordleHistogram.Snapshot getCheckGuessNanos();
+
+    WordleHistogram.Snapshot getGenerateHintNanos();
+
+    WordleHistogram.Snapshot getFilteredWordsNanos();
+
+    WordleHistogram.Snapshot getLoadDictionaryNanos();
+
+    // Элемент i - размер множества кандидатов при подсказке после i догадок
+    WordleHistogram.Snapshot[] getCandidatesByAttempt();
+
+    long getHintCacheRebuildCount();
+
+    long getCandidateNarrowingCount();
+
+    long getHintCacheHitCount();
+
+    long getHintCacheMissCount();
+
+    double getHintCacheHitRate();
+}
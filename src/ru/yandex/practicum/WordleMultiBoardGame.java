@@ -0,0 +1,199 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+// Игра на нескольких досках (Quordle, Octordle...): одна догадка идет сразу на все доски,
+// у каждой доски свое загаданное слово и свое множество кандидатов. Попыток на 5 больше, чем досок
+public class WordleMultiBoardGame {
+
+    public static final int MAX_BOARDS = 16;
+    private static final int EXTRA_ATTEMPTS = 5;
+    // Меньше кандидатов суммарно - доски обновляются в текущем потоке, параллельность дороже работы
+    private static final int PARALLEL_THRESHOLD = 8192;
+
+    private final WordleDictionary dictionary;
+    private final WordleMultiBoardHintEngine hintEngine;
+    private final WordleLogger logger;
+    private final int[] answerIds;
+    // Кандидаты доски b - первые candidateCounts[b] элементов candidateIds[b]; null - весь словарь
+    private final int[][] candidateIds;
+    private final int[] candidateCounts;
+    private final boolean[] solved;
+    private int remainingAttempts;
+    private int solvedCount;
+
+    public WordleMultiBoardGame(WordleMultiBoardHintEngine hintEngine, WordleLogger logger, int boards) {
+        this(hintEngine, logger, randomAnswers(hintEngine, boards));
+    }
+
+    // Загаданные слова задаются снаружи для тестов; повторы между досками допустимы
+    public WordleMultiBoardGame(WordleMultiBoardHintEngine hintEngine, WordleLogger logger, String... answers) {
+        if (hintEngine == null) {
+            throw new WordleSystemException("Движок подсказок не может быть null");
+        }
+        if (logger == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        if (answers == null || answers.length == 0 || answers.length > MAX_BOARDS) {
+            throw new WordleSystemException("Число досок должно быть от 1 до " + MAX_BOARDS);
+        }
+
+        this.dictionary = hintEngine.getDictionary();
+        this.hintEngine = hintEngine;
+        this.logger = logger;
+        this.answerIds = new int[answers.length];
+        for (int b = 0; b < answers.length; b++) {
+            answerIds[b] = answers[b] == null ? -1 : dictionary.indexOf(WordleAlphabet.normalize(answers[b]));
+            if (answerIds[b] < 0) {
+                throw new WordleSystemException("Загаданного слова нет в словаре: " + answers[b]);
+            }
+        }
+        this.candidateIds = new int[answers.length][];
+        this.candidateCounts = new int[answers.length];
+        Arrays.fill(candidateCounts, dictionary.size());
+        this.solved = new boolean[answers.length];
+        this.remainingAttempts = answers.length + EXTRA_ATTEMPTS;
+
+        logger.info("Игра на " + answers.length + " досках создана");
+    }
+
+    private static String[] randomAnswers(WordleMultiBoardHintEngine hintEngine, int boards) {
+        if (hintEngine == null) {
+            throw new WordleSystemException("Движок подсказок не может быть null");
+        }
+        if (boards < 1 || boards > MAX_BOARDS) {
+            throw new WordleSystemException("Число досок должно быть от 1 до " + MAX_BOARDS);
+        }
+        WordleDictionary dictionary = hintEngine.getDictionary();
+        String[] answers = new String[boards];
+        for (int b = 0; b < boards; b++) {
+            answers[b] = dictionary.getRandomWord(ThreadLocalRandom.current());
+        }
+        return answers;
+    }
+
+    // Паттерн для каждой доски; для досок, решенных раньше, - WordleFeedback.INVALID_PATTERN
+    public int[] checkGuess(String guess) {
+        if (isGameOver()) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (guess == null) {
+            throw new WordNotFoundInDictionaryException("Слово не может быть null");
+        }
+
+        int wordId = dictionary.indexOfCode(WordleAlphabet.encodeTrimmed(guess));
+        if (wordId < 0) {
+            throw new WordNotFoundInDictionaryException(WordleAlphabet.normalize(guess));
+        }
+        return applyGuess(wordId);
+    }
+
+    public int[] checkGuessById(int wordId) {
+        if (isGameOver()) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (wordId < 0 || wordId >= dictionary.size()) {
+            throw new WordNotFoundInDictionaryException("#" + wordId);
+        }
+        return applyGuess(wordId);
+    }
+
+    private int[] applyGuess(int wordId) {
+        int[] patterns = new int[answerIds.length];
+        long work = 0;
+        for (int b = 0; b < answerIds.length; b++) {
+            if (!solved[b]) {
+                work += candidateCounts[b];
+            }
+        }
+        // Каждая доска пишет только в свои элементы массивов, поэтому обновлять их можно одновременно
+        if (work >= PARALLEL_THRESHOLD) {
+            hintEngine.getPool().submit(() -> IntStream.range(0, answerIds.length).parallel()
+                    .forEach(b -> patterns[b] = updateBoard(b, wordId))).join();
+        } else {
+            for (int b = 0; b < answerIds.length; b++) {
+                patterns[b] = updateBoard(b, wordId);
+            }
+        }
+
+        remainingAttempts--;
+        for (int b = 0; b < answerIds.length; b++) {
+            if (patterns[b] == WordleFeedback.ALL_CORRECT) {
+                solved[b] = true;
+                solvedCount++;
+            }
+        }
+        if (logger.isEnabled(WordleLogLevel.INFO)) {
+            logger.info("Догадка на " + answerIds.length + " досках: " + dictionary.getWord(wordId)
+                    + " (решено досок: " + solvedCount + ", осталось попыток: " + remainingAttempts + ")");
+        }
+        return patterns;
+    }
+
+    private int updateBoard(int board, int wordId) {
+        if (solved[board]) {
+            return WordleFeedback.INVALID_PATTERN;
+        }
+        int pattern = hintEngine.pattern(wordId, answerIds[board]);
+        int[] ids = candidateIds[board];
+        int count = candidateCounts[board];
+        int[] kept = ids == null ? new int[count] : ids;
+        int keptCount = 0;
+        // Кандидат остается, только если дал бы тот же паттерн: это точнее и дешевле фильтра по буквам
+        for (int i = 0; i < count; i++) {
+            int id = ids == null ? i : ids[i];
+            if (hintEngine.pattern(wordId, id) == pattern) {
+                kept[keptCount++] = id;
+            }
+        }
+        candidateIds[board] = ids == null ? Arrays.copyOf(kept, keptCount) : kept;
+        candidateCounts[board] = keptCount;
+        return pattern;
+    }
+
+    public String generateHint() {
+        if (isGameOver()) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        return dictionary.getWord(hintEngine.selectHint(candidateIds, candidateCounts, solved));
+    }
+
+    public boolean isGameOver() {
+        return remainingAttempts <= 0 || isWordGuessed();
+    }
+
+    // Все доски решены
+    public boolean isWordGuessed() {
+        return solvedCount == answerIds.length;
+    }
+
+    public int getBoardCount() {
+        return answerIds.length;
+    }
+
+    public boolean isBoardSolved(int board) {
+        return solved[board];
+    }
+
+    public int getSolvedBoardCount() {
+        return solvedCount;
+    }
+
+    public int getCandidateCount(int board) {
+        return candidateCounts[board];
+    }
+
+    public String getAnswer(int board) {
+        return dictionary.getWord(answerIds[board]);
+    }
+
+    public int getRemainingAttempts() {
+        return remainingAttempts;
+    }
+
+    public int getUsedAttempts() {
+        return answerIds.length + EXTRA_ATTEMPTS - remainingAttempts;
+    }
+}
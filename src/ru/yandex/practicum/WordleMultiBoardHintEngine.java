@@ -0,0 +1,165 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Подсказки для игры на нескольких досках: каждая догадка оценивается сразу по всем нерешенным
+// доскам как сумма ожидаемых размеров их множеств кандидатов после ответа. Догадки оцениваются
+// параллельно, а их число ограничено так, чтобы вся оценка укладывалась в MAX_WORK паттернов
+public class WordleMultiBoardHintEngine {
+
+    private static final int MAX_WORK = 1 << 20;
+    private static final int MIN_GUESSES = 32;
+    private static final int MAX_GUESSES = 512;
+
+    private final WordleDictionary dictionary;
+    private final WordleFeedbackMatrix matrix;
+    private final ForkJoinPool pool;
+    // Первый ход одинаков для всех игр на этом словаре: считается один раз
+    private volatile int openingId = -1;
+
+    // matrix необязательна: без нее паттерны считаются по упакованным кодам слов
+    public WordleMultiBoardHintEngine(WordleDictionary dictionary, WordleFeedbackMatrix matrix, ForkJoinPool pool) {
+        if (dictionary == null || pool == null) {
+            throw new WordleSystemException("Словарь и пул потоков не могут быть null");
+        }
+        if (matrix != null && !matrix.matches(dictionary)) {
+            throw new WordleSystemException("Матрица паттернов построена для другого словаря");
+        }
+        this.dictionary = dictionary;
+        this.matrix = matrix;
+        this.pool = pool;
+    }
+
+    // candidateIds[b] == null - кандидатами доски остается весь словарь; решенные доски пропускаются
+    public int selectHint(int[][] candidateIds, int[] candidateCounts, boolean[] solved) {
+        int allWordsBoards = 0;
+        int bestSingle = -1;
+        long totalCandidates = 0;
+        for (int b = 0; b < solved.length; b++) {
+            if (solved[b]) {
+                continue;
+            }
+            if (candidateIds[b] == null) {
+                allWordsBoards++;
+            } else if (candidateCounts[b] == 1 && bestSingle < 0) {
+                bestSingle = candidateIds[b][0];
+            }
+            totalCandidates += candidateCounts[b];
+        }
+        if (totalCandidates == 0) {
+            throw new WordleGameException("Все доски уже решены");
+        }
+        // Доска с единственным кандидатом решается этой догадкой наверняка
+        if (bestSingle >= 0) {
+            return bestSingle;
+        }
+        if (allWordsBoards * (long) dictionary.size() == totalCandidates) {
+            if (openingId < 0) {
+                openingId = bestGuess(sampleGuesses(null, dictionary.size(), guessLimit(dictionary.size())),
+                        new int[][]{null}, new int[]{dictionary.size()}, new int[]{1});
+            }
+            return openingId;
+        }
+
+        // Доски, где кандидаты - весь словарь, одинаковы: оцениваются один раз с весом их числа
+        int boards = solved.length;
+        int[][] ids = new int[boards][];
+        int[] counts = new int[boards];
+        int[] weights = new int[boards];
+        int distinct = 0;
+        int allWordsSlot = -1;
+        boolean[] inUnion = new boolean[dictionary.size()];
+        int[] union = new int[(int) Math.min(totalCandidates, dictionary.size())];
+        int unionSize = 0;
+        for (int b = 0; b < boards; b++) {
+            if (solved[b]) {
+                continue;
+            }
+            if (candidateIds[b] == null) {
+                if (allWordsSlot < 0) {
+                    allWordsSlot = distinct++;
+                    counts[allWordsSlot] = dictionary.size();
+                }
+                weights[allWordsSlot]++;
+                continue;
+            }
+            ids[distinct] = candidateIds[b];
+            counts[distinct] = candidateCounts[b];
+            weights[distinct] = 1;
+            distinct++;
+            for (int i = 0; i < candidateCounts[b]; i++) {
+                int id = candidateIds[b][i];
+                if (!inUnion[id]) {
+                    inUnion[id] = true;
+                    union[unionSize++] = id;
+                }
+            }
+        }
+
+        int[] guesses = sampleGuesses(union, unionSize, guessLimit(totalCandidates));
+        return bestGuess(guesses, Arrays.copyOf(ids, distinct), Arrays.copyOf(counts, distinct), Arrays.copyOf(weights, distinct));
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    int pattern(int guessId, int answerId) {
+        return matrix != null
+                ? matrix.getPattern(guessId, answerId)
+                : WordleFeedback.compute(dictionary.getWordCode(guessId), dictionary.getWordCode(answerId));
+    }
+
+    private int guessLimit(long totalCandidates) {
+        return (int) Math.max(MIN_GUESSES, Math.min(MAX_GUESSES, MAX_WORK / totalCandidates));
+    }
+
+    // Равномерная по шагу выборка догадок из пула (pool == null - из всего словаря)
+    private static int[] sampleGuesses(int[] pool, int size, int limit) {
+        int count = Math.min(size, limit);
+        int[] guesses = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((long) i * size / count);
+            guesses[i] = pool == null ? index : pool[index];
+        }
+        return guesses;
+    }
+
+    private int bestGuess(int[] guesses, int[][] ids, int[] counts, int[] weights) {
+        double[] scores = new double[guesses.length];
+        pool.submit(() -> IntStream.range(0, guesses.length).parallel()
+                .forEach(g -> scores[g] = score(guesses[g], ids, counts, weights))).join();
+
+        int best = 0;
+        for (int g = 1; g < guesses.length; g++) {
+            if (scores[g] < scores[best]) {
+                best = g;
+            }
+        }
+        return guesses[best];
+    }
+
+    // Сумма по доскам ожидаемого числа кандидатов после догадки; угаданная доска дает ноль
+    private double score(int guessId, int[][] ids, int[] counts, int[] weights) {
+        int[] buckets = new int[WordleFeedback.PATTERN_COUNT];
+        double score = 0;
+        for (int b = 0; b < ids.length; b++) {
+            Arrays.fill(buckets, 0);
+            for (int i = 0; i < counts[b]; i++) {
+                buckets[pattern(guessId, ids[b] == null ? i : ids[b][i])]++;
+            }
+            long sumOfSquares = -buckets[WordleFeedback.ALL_CORRECT];
+            for (int size : buckets) {
+                sumOfSquares += (long) size * size;
+            }
+            score += weights[b] * (double) sumOfSquares / counts[b];
+        }
+        return score;
+    }
+}
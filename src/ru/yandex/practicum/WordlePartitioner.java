@@ -0,0 +1,129 @@
+package ru.yandex.practicum;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Делит множество кандидатов на корзины по паттерну ответа на догадку за один проход и оставляет
+// самую большую. Первая догадка всегда делит весь словарь, поэтому ее результат общий для всех игр
+public class WordlePartitioner {
+
+    private static final int[] GREENS = new int[WordleFeedback.PATTERN_COUNT];
+    private static final int[] YELLOWS = new int[WordleFeedback.PATTERN_COUNT];
+
+    static {
+        for (int pattern = 0; pattern < WordleFeedback.PATTERN_COUNT; pattern++) {
+            for (int i = 0; i < WordleAlphabet.WORD_LENGTH; i++) {
+                int digit = WordleFeedback.digitAt(pattern, i);
+                if (digit == WordleFeedback.CORRECT) {
+                    GREENS[pattern]++;
+                } else if (digit == WordleFeedback.PRESENT) {
+                    YELLOWS[pattern]++;
+                }
+            }
+        }
+    }
+
+    private final WordleDictionary dictionary;
+    private final WordleFeedbackMatrix matrix;
+    // Корзины первого хода по id догадки; корзины неизменяемы, поэтому их можно делить между играми
+    private final AtomicReferenceArray<Bucket> firstMoves;
+
+    // matrix необязательна: без нее паттерны считаются по упакованным кодам слов
+    public WordlePartitioner(WordleDictionary dictionary, WordleFeedbackMatrix matrix) {
+        if (dictionary == null) {
+            throw new WordleSystemException("Словарь не может быть null");
+        }
+        if (matrix != null && !matrix.matches(dictionary)) {
+            throw new WordleSystemException("Матрица паттернов построена для другого словаря");
+        }
+        this.dictionary = dictionary;
+        this.matrix = matrix;
+        this.firstMoves = new AtomicReferenceArray<>(dictionary.size());
+    }
+
+    // current == null - кандидатами остается весь словарь
+    public Bucket partition(int guessId, Bucket current) {
+        if (guessId < 0 || guessId >= dictionary.size()) {
+            throw new WordleSystemException("Неверный id догадки: " + guessId);
+        }
+        if (current != null) {
+            return split(guessId, current.wordIds, current.wordIds.length);
+        }
+        Bucket bucket = firstMoves.get(guessId);
+        if (bucket == null) {
+            // Гонка безвредна: обе игры получат одинаковые корзины
+            bucket = split(guessId, null, dictionary.size());
+            firstMoves.compareAndSet(guessId, null, bucket);
+        }
+        return bucket;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    private Bucket split(int guessId, int[] candidateIds, int count) {
+        byte[] patterns = new byte[count];
+        int[] sizes = new int[WordleFeedback.PATTERN_COUNT];
+        if (matrix != null) {
+            for (int i = 0; i < count; i++) {
+                int pattern = matrix.getPattern(guessId, candidateIds == null ? i : candidateIds[i]);
+                patterns[i] = (byte) pattern;
+                sizes[pattern]++;
+            }
+        } else {
+            int guessCode = dictionary.getWordCode(guessId);
+            for (int i = 0; i < count; i++) {
+                int pattern = WordleFeedback.compute(guessCode,
+                        dictionary.getWordCode(candidateIds == null ? i : candidateIds[i]));
+                patterns[i] = (byte) pattern;
+                sizes[pattern]++;
+            }
+        }
+
+        int best = selectLargest(sizes);
+        int[] kept = new int[sizes[best]];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if ((patterns[i] & 0xFF) == best) {
+                kept[size++] = candidateIds == null ? i : candidateIds[i];
+            }
+        }
+        return new Bucket(best, kept);
+    }
+
+    // Самая большая корзина; при равенстве - та, что меньше открывает: меньше зеленых, затем желтых букв
+    private static int selectLargest(int[] sizes) {
+        int best = 0;
+        for (int pattern = 1; pattern < sizes.length; pattern++) {
+            if (sizes[pattern] > sizes[best]
+                    || sizes[pattern] == sizes[best] && (GREENS[pattern] < GREENS[best]
+                    || GREENS[pattern] == GREENS[best] && YELLOWS[pattern] < YELLOWS[best])) {
+                best = pattern;
+            }
+        }
+        return best;
+    }
+
+    public static final class Bucket {
+
+        private final int pattern;
+        private final int[] wordIds;
+
+        private Bucket(int pattern, int[] wordIds) {
+            this.pattern = pattern;
+            this.wordIds = wordIds;
+        }
+
+        public int getPattern() {
+            return pattern;
+        }
+
+        public int size() {
+            return wordIds.length;
+        }
+
+        public int getWordId(int index) {
+            return wordIds[index];
+        }
+    }
+}
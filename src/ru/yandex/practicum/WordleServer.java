@@ -0,0 +1,426 @@
+package ru.yandex.practicum;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Строковый протокол поверх TCP, по команде на строку:
+//   NEW                -> OK <id>
+//   NEW ABSURDLE       -> OK <id>
+//   GUESS <id> <слово> -> OK <паттерн> <осталось попыток> IN_PROGRESS|WON|LOST [<загаданное слово>]
+//                         в Absurdle: OK <паттерн> <осталось кандидатов> IN_PROGRESS|WON
+//   HINT <id>          -> OK <слово> (в Absurdle недоступна; счет стратегии ограничен HINT_BUDGET,
+//                         при отключении клиента до ответа подсказка отменяется)
+//   END <id>           -> OK
+//   QUIT               -> BYE
+// Ошибки возвращаются строкой ERR <сообщение>. GUESS, HINT и END принимают только id, созданные
+// командой NEW в том же соединении. Завершенная игра удаляется из реестра сразу,
+// незавершенные игры соединения удаляются при его закрытии.
+public class WordleServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7777;
+    private static final int DEFAULT_MAX_SESSIONS = 100_000;
+    private static final int ACCEPT_BACKLOG = 4096;
+    private static final int IDLE_TIMEOUT_MILLIS = 300_000;
+    private static final Duration HINT_BUDGET = Duration.ofMillis(200);
+
+    private final WordleSessionRegistry registry;
+    private final WordleLogger logger;
+    // Виртуальный поток на соединение: блокирующее чтение не держит поток ОС
+    private final ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    // Подсказки в работе: при остановке сервера отменяются, чтобы не держать пул стратегии
+    private final Set<WordleHintDeadline> pendingHints = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+    private volatile boolean closed;
+
+    public WordleServer(WordleSessionRegistry registry, WordleLogger logger) {
+        if (registry == null) {
+            throw new WordleSystemException("Реестр сессий не может быть null");
+        }
+        if (logger == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        this.registry = registry;
+        this.logger = logger;
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String dictionaryFile = args.length > 1 ? args[1] : "words_ru.txt";
+
+        try (WordleLogger logger = WordleLogger.async(
+                new OutputStreamWriter(new FileOutputStream("wordle-server.log"), StandardCharsets.UTF_8),
+                WordleLogLevel.INFO, 65536, WordleLogger.OverflowPolicy.DROP);
+             WordleJournal journal = new WordleJournal(Paths.get("journal"))) {
+            WordleMetrics.global().registerMBean();
+            WordleDictionary dictionary = new WordleDictionaryLoader(logger)
+                    .loadDictionary(dictionaryFile, WordleDictionarySnapshot.defaultPath(Paths.get(dictionaryFile)));
+            WordleAnswerPool answerPool = args.length > 2
+                    ? WordleAnswerPool.load(dictionary, Paths.get(args[2]), logger) : null;
+            WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, DEFAULT_MAX_SESSIONS, answerPool);
+            registry.setJournal(journal);
+            WordleServer server = new WordleServer(registry, logger);
+            server.start(port);
+            // Писатели журнала и лога - потоки-демоны: без закрытия при остановке пропала бы последняя пачка
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                closeOnShutdown(journal);
+                closeOnShutdown(logger);
+            }));
+            System.out.println("Сервер Wordle слушает localhost:" + server.getPort());
+            server.join();
+        } catch (WordleSystemException e) {
+            System.err.println("СИСТЕМНАЯ ОШИБКА: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Критическая ошибка: " + e.getMessage());
+        }
+    }
+
+    // Порт 0 - свободный порт по выбору системы
+    public void start(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new WordleSystemException("Сервер уже запущен");
+        }
+        serverSocket = new ServerSocket(port, ACCEPT_BACKLOG, InetAddress.getLoopbackAddress());
+        acceptor = Thread.ofPlatform().name("wordle-server-acceptor").start(this::acceptLoop);
+        logger.info("Сервер запущен на порту " + serverSocket.getLocalPort());
+    }
+
+    public int getPort() {
+        if (serverSocket == null) {
+            throw new WordleSystemException("Сервер не запущен");
+        }
+        return serverSocket.getLocalPort();
+    }
+
+    public void join() throws InterruptedException {
+        if (acceptor != null) {
+            acceptor.join();
+        }
+    }
+
+    public WordleSessionRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Пишется до закрытия сокета: после него main может закрыть лог раньше, чем close вернется
+        logger.info("Сервер останавливается");
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Ошибка закрытия серверного сокета: " + e.getMessage());
+        }
+        for (Socket socket : openSockets) {
+            closeQuietly(socket);
+        }
+        for (WordleHintDeadline deadline : pendingHints) {
+            deadline.cancel();
+        }
+        connectionExecutor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                openSockets.add(socket);
+                connectionExecutor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    logger.error("Ошибка приема соединения: " + e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // Исполнитель уже остановлен - сервер закрывается
+                if (!closed) {
+                    logger.error("Ошибка запуска обработчика соединения: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        Set<Long> ownedSessions = new HashSet<>();
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+
+            String line = reader.readLine();
+            while (line != null) {
+                if (line.trim().equalsIgnoreCase("QUIT")) {
+                    writer.write("BYE\n");
+                    break;
+                }
+                if (isHintCommand(line)) {
+                    writer.flush();
+                    line = hintDetached(line, ownedSessions, reader, writer);
+                    continue;
+                }
+                writer.write(handleCommand(line, ownedSessions));
+                writer.write('\n');
+                // Конвейерные запросы отвечаются одной записью в сокет
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+                line = reader.readLine();
+            }
+            writer.flush();
+        } catch (SocketTimeoutException e) {
+            logger.info("Соединение закрыто по простою: " + socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (!closed) {
+                logger.debug(() -> "Соединение разорвано: " + e.getMessage());
+            }
+        } finally {
+            openSockets.remove(socket);
+            for (long id : ownedSessions) {
+                registry.remove(id);
+            }
+        }
+    }
+
+    // Подсказка считается в отдельном виртуальном потоке и сама пишет ответ, а поток соединения
+    // тем временем читает следующую команду: если вместо нее пришел конец потока, клиент ответа
+    // уже не ждет и подсказка отменяется. Следующая команда выполняется после ответа на подсказку
+    private String hintDetached(String command, Set<Long> ownedSessions, BufferedReader reader,
+                                BufferedWriter writer) throws IOException {
+        WordleHintDeadline cancellation = WordleHintDeadline.cancellable();
+        Future<?> task;
+        try {
+            task = connectionExecutor.submit(() -> {
+                writer.write(handleCommand(command, ownedSessions, cancellation));
+                writer.write('\n');
+                writer.flush();
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            // Исполнитель уже остановлен - сервер закрывается
+            throw new IOException("Сервер остановлен", e);
+        }
+        String next = null;
+        try {
+            next = reader.readLine();
+        } finally {
+            if (next == null) {
+                cancellation.cancel();
+            }
+            awaitHint(task, cancellation);
+        }
+        return next;
+    }
+
+    private static void awaitHint(Future<?> task, WordleHintDeadline cancellation) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            cancellation.cancel();
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new WordleSystemException("Ошибка вычисления подсказки: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static boolean isHintCommand(String line) {
+        return line.trim().split("\\s+")[0].equalsIgnoreCase("HINT");
+    }
+
+    String handleCommand(String line, Set<Long> ownedSessions) {
+        return handleCommand(line, ownedSessions, WordleHintDeadline.cancellable());
+    }
+
+    // cancellation отменяет подсказку, если клиент отключился, не дождавшись ответа
+    String handleCommand(String line, Set<Long> ownedSessions, WordleHintDeadline cancellation) {
+        String[] parts = line.trim().split("\\s+");
+        try {
+            switch (parts[0].toUpperCase()) {
+                case "NEW":
+                    if (parts.length > 1 && parts[1].equalsIgnoreCase("ABSURDLE")) {
+                        return register(registry.createAbsurdle(), ownedSessions);
+                    }
+                    return register(registry.create(), ownedSessions);
+                case "GUESS":
+                    requireArguments(parts, 3);
+                    return guess(requireOwned(parts[1], ownedSessions), parts[2], ownedSessions);
+                case "HINT":
+                    requireArguments(parts, 2);
+                    return hint(requireOwned(parts[1], ownedSessions), cancellation);
+                case "END":
+                    requireArguments(parts, 2);
+                    long id = requireOwned(parts[1], ownedSessions);
+                    if (!registry.remove(id)) {
+                        throw new WordleGameException("Сессия не найдена: " + id);
+                    }
+                    ownedSessions.remove(id);
+                    // Подсказки партии пишутся без ожидания fsync; после OK на END вся партия на диске
+                    syncJournal(registry::syncJournal, id);
+                    return "OK";
+                default:
+                    throw new WordleGameException("Неизвестная команда: " + parts[0]);
+            }
+        } catch (WordleGameException e) {
+            return "ERR " + e.getMessage();
+        } catch (WordleSystemException e) {
+            logger.error("Ошибка обработки команды '" + line + "': " + e.getMessage());
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private String register(WordleSession session, Set<Long> ownedSessions) {
+        ownedSessions.add(session.getId());
+        return "OK " + session.getId();
+    }
+
+    private String guess(long id, String word, Set<Long> ownedSessions) {
+        WordleSession session = registry.get(id);
+        if (session.isAbsurdle()) {
+            return guessAbsurdle(session, word, ownedSessions);
+        }
+        WordleStoredGame game = session.getGame();
+        String response;
+        ReentrantLock lock = session.getLock();
+        lock.lock();
+        try {
+            String pattern = WordleFeedback.toString(game.checkGuess(word));
+            response = "OK " + pattern + " " + game.getRemainingAttempts();
+            if (game.isWordGuessed()) {
+                response += " WON";
+            } else if (game.isGameOver()) {
+                response += " LOST " + game.getAnswer();
+            } else {
+                response += " IN_PROGRESS";
+            }
+            if (game.isGameOver()) {
+                registry.remove(id);
+                ownedSessions.remove(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        // fsync ждется без блокировки сессии: соседние сессии полосы попадают в ту же пачку
+        syncJournal(game::awaitJournal, id);
+        return response;
+    }
+
+    // Ход уже применен, а сессия могла быть удалена: ERR здесь разошелся бы с состоянием игры,
+    // поэтому сбой fsync только логируется, а клиент получает настоящий результат
+    private void syncJournal(Runnable sync, long id) {
+        try {
+            sync.run();
+        } catch (WordleSystemException e) {
+            logger.error("Не удалось сбросить журнал для сессии " + id + ": " + e.getMessage());
+        }
+    }
+
+    private String guessAbsurdle(WordleSession session, String word, Set<Long> ownedSessions) {
+        WordleAbsurdleGame game = session.getAbsurdleGame();
+        ReentrantLock lock = session.getLock();
+        lock.lock();
+        try {
+            String response = "OK " + WordleFeedback.toString(game.checkGuess(word)) + " " + game.getCandidateCount();
+            if (!game.isWordGuessed()) {
+                return response + " IN_PROGRESS";
+            }
+            registry.remove(session.getId());
+            ownedSessions.remove(session.getId());
+            return response + " WON";
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String hint(long id, WordleHintDeadline cancellation) {
+        WordleSession session = registry.get(id);
+        if (session.isAbsurdle()) {
+            throw new WordleGameException("Подсказки недоступны в режиме Absurdle");
+        }
+        pendingHints.add(cancellation);
+        if (closed) {
+            cancellation.cancel();
+        }
+        try {
+            WordleStoredGame game = session.getGame();
+            // Под блокировкой снимается только история; подсказка считается по снимку без нее, а
+            // бюджет отсчитывается от начала счета и не включает ожидание чужой команды сессии
+            WordleGame snapshot;
+            ReentrantLock lock = session.getLock();
+            lock.lock();
+            try {
+                snapshot = game.snapshot();
+            } finally {
+                lock.unlock();
+            }
+            return "OK " + game.generateHint(snapshot, cancellation.limit(HINT_BUDGET));
+        } finally {
+            pendingHints.remove(cancellation);
+        }
+    }
+
+    private static void requireArguments(String[] parts, int count) {
+        if (parts.length < count) {
+            throw new WordleGameException("Недостаточно аргументов для команды " + parts[0]);
+        }
+    }
+
+    // Соединение работает только со своими сессиями: чужой id выглядит так же, как несуществующий
+    private static long requireOwned(String value, Set<Long> ownedSessions) {
+        long id = parseId(value);
+        if (!ownedSessions.contains(id)) {
+            throw new WordleGameException("Сессия не найдена: " + id);
+        }
+        return id;
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new WordleGameException("Некорректный id сессии: " + value);
+        }
+    }
+
+    private static void closeOnShutdown(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            System.err.println("Ошибка закрытия при остановке: " + e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // Сокет уже закрыт
+        }
+    }
+}
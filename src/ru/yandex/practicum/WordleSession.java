@@ -0,0 +1,54 @@
+package ru.yandex.practicum;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public class WordleSession {
+
+    private final long id;
+    // Ровно одно из двух полей не null: обычная игра или игра в режиме Absurdle
+    private final WordleStoredGame game;
+    private final WordleAbsurdleGame absurdleGame;
+    // ReentrantLock, а не synchronized: на JDK 21 монитор закрепляет виртуальный поток за носителем
+    private final ReentrantLock lock;
+
+    // Обычная игра живет в хранилище сессий, а этот объект - лишь обертка на время запроса
+    public WordleSession(long id, WordleStoredGame game, ReentrantLock lock) {
+        if (game == null || lock == null) {
+            throw new WordleSystemException("Игра и блокировка не могут быть null");
+        }
+        this.id = id;
+        this.game = game;
+        this.absurdleGame = null;
+        this.lock = lock;
+    }
+
+    public WordleSession(long id, WordleAbsurdleGame absurdleGame) {
+        if (absurdleGame == null) {
+            throw new WordleSystemException("Игра не может быть null");
+        }
+        this.id = id;
+        this.game = null;
+        this.absurdleGame = absurdleGame;
+        this.lock = new ReentrantLock();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public WordleStoredGame getGame() {
+        return game;
+    }
+
+    public WordleAbsurdleGame getAbsurdleGame() {
+        return absurdleGame;
+    }
+
+    public boolean isAbsurdle() {
+        return absurdleGame != null;
+    }
+
+    public ReentrantLock getLock() {
+        return lock;
+    }
+}
@@ -0,0 +1,148 @@
+package ru.yandex.practicum;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class WordleSessionRegistry {
+
+    private static final int HINT_CACHE_CAPACITY = 65_536;
+
+    private final WordleDictionary dictionary;
+    private final WordleLogger logger;
+    private final WordleAnswerPool answerPool;
+    // Игры сервера подсказывают одной стратегией с учетом срока и делят подсказки через общий кэш
+    private final WordleHintStrategy hintStrategy;
+    private final WordleHintCache hintCache;
+    // Игры Absurdle делят разбиватель, а с ним и закэшированные корзины первого хода
+    private final WordlePartitioner partitioner;
+    // Обычные игры - столбцы хранилища; оно же выдает id и держит лимит для игр Absurdle
+    private final WordleSessionStore store;
+    private final ConcurrentHashMap<Long, WordleSession> absurdleSessions = new ConcurrentHashMap<>();
+    // Журнал необязателен; игры Absurdle в него не пишутся - у них нет загаданного слова
+    private volatile WordleJournal journal;
+
+    public WordleSessionRegistry(WordleDictionary dictionary, WordleLogger logger, int maxSessions) {
+        this(dictionary, logger, maxSessions, null);
+    }
+
+    // answerPool необязателен: без него ответ выбирается равномерно из всего словаря
+    public WordleSessionRegistry(WordleDictionary dictionary, WordleLogger logger, int maxSessions,
+                                 WordleAnswerPool answerPool) {
+        this(dictionary, logger, maxSessions, answerPool, new WordleEntropyHintStrategy());
+    }
+
+    public WordleSessionRegistry(WordleDictionary dictionary, WordleLogger logger, int maxSessions,
+                                 WordleAnswerPool answerPool, WordleHintStrategy hintStrategy) {
+        if (dictionary == null) {
+            throw new WordleSystemException("Словарь не может быть null");
+        }
+        if (logger == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        if (maxSessions <= 0) {
+            throw new WordleSystemException("Лимит сессий должен быть положительным: " + maxSessions);
+        }
+        if (hintStrategy == null) {
+            throw new WordleSystemException("Стратегия подсказок не может быть null");
+        }
+        this.dictionary = dictionary;
+        this.logger = logger;
+        if (answerPool != null && answerPool.getDictionary() != dictionary) {
+            throw new WordleSystemException("Пул ответов построен для другого словаря");
+        }
+        this.answerPool = answerPool;
+        this.hintStrategy = hintStrategy;
+        this.hintCache = new WordleHintCache(dictionary, hintStrategy.getName(), HINT_CACHE_CAPACITY);
+        this.partitioner = new WordlePartitioner(dictionary, null);
+        this.store = new WordleSessionStore(dictionary, maxSessions);
+    }
+
+    public WordleSession create() {
+        int answerId = answerPool == null
+                ? ThreadLocalRandom.current().nextInt(dictionary.size())
+                : answerPool.sampleId(ThreadLocalRandom.current());
+        long id = store.create(answerId);
+        // id сессии освобождается и после перезапуска выдается снова, поэтому в журнал партия
+        // пишется под своим id, а связь с сессией остается в логе
+        WordleJournal current = journal;
+        long journalId = 0;
+        if (current != null) {
+            // Без записи о создании игра не выдается: слот иначе остался бы занятым без владельца
+            try {
+                journalId = current.appendCreated(dictionary.getWordCode(answerId));
+            } catch (RuntimeException e) {
+                store.remove(id);
+                throw e;
+            }
+            store.setJournalId(id, journalId);
+        }
+        if (logger.isEnabled(WordleLogLevel.INFO)) {
+            logger.info("Игра создана: " + id + (journalId == 0 ? "" : ", партия в журнале: " + journalId));
+        }
+        logger.debug(() -> "Загаданное слово игры " + id + ": " + dictionary.getWord(answerId));
+        return session(id);
+    }
+
+    public WordleSession createAbsurdle() {
+        long id = store.create(WordleSessionStore.NO_ANSWER);
+        WordleSession session;
+        try {
+            session = new WordleSession(id, new WordleAbsurdleGame(partitioner, logger));
+        } catch (RuntimeException e) {
+            store.remove(id);
+            throw e;
+        }
+        absurdleSessions.put(id, session);
+        return session;
+    }
+
+    // Для обычной игры каждый раз новая обертка над той же записью хранилища
+    public WordleSession get(long id) {
+        WordleSession absurdle = absurdleSessions.get(id);
+        if (absurdle != null) {
+            return absurdle;
+        }
+        // Слот Absurdle, чья игра еще не зарегистрирована, тоже считается ненайденным
+        if (!store.contains(id) || store.getAnswerId(id) == WordleSessionStore.NO_ANSWER) {
+            throw new WordleGameException("Сессия не найдена: " + id);
+        }
+        return session(id);
+    }
+
+    private WordleSession session(long id) {
+        return new WordleSession(id, new WordleStoredGame(store, id, logger, hintStrategy, hintCache, journal), store.getLock(id));
+    }
+
+    public boolean remove(long id) {
+        absurdleSessions.remove(id);
+        return store.remove(id);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public WordleHintCache getHintCache() {
+        return hintCache;
+    }
+
+    // Ждет fsync всего, что уже добавлено в журнал
+    public void syncJournal() {
+        WordleJournal current = journal;
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    public void setJournal(WordleJournal journal) {
+        this.journal = journal;
+    }
+
+    public WordleSessionStore getStore() {
+        return store;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+}
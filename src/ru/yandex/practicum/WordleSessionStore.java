@@ -0,0 +1,288 @@
+package ru.yandex.practicum;
+
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Состояние обычных партий сервера в столбцах примитивных массивов: загаданное слово, до шести
+// догадок с паттернами, счетчик попыток и id партии в журнале - около 55 байт на сессию вместо
+// килобайтов объекта WordleGame. Id сессии - номер слота плюс случайная метка слота: старый id
+// не попадает в новую игру, а чужой id нельзя подобрать перебором соседних номеров
+public class WordleSessionStore {
+
+    public static final int MAX_ATTEMPTS = 6;
+    // Слот занят сессией без загаданного слова (Absurdle): хранилище только резервирует id
+    public static final int NO_ANSWER = -1;
+
+    private static final int LOCK_STRIPES = 1024;
+    private static final int ATTEMPTS_MASK = 0x07;
+    private static final int GUESSED_FLAG = 0x08;
+    private static final int USED_FLAG = 0x10;
+
+    private final WordleDictionary dictionary;
+    private final int capacity;
+    private final int[] answerIds;
+    // Догадки и паттерны слота s - элементы [s * MAX_ATTEMPTS, (s + 1) * MAX_ATTEMPTS)
+    private final int[] guessIds;
+    private final byte[] patterns;
+    // Число попыток, флаг угаданного слова и флаг занятого слота
+    private final byte[] states;
+    // Метка из SecureRandom, новая при каждом занятии слота
+    private final long[] tags;
+    // id партии в WordleJournal, 0 - партия не пишется в журнал
+    private final long[] journalIds;
+    private final int slotBits;
+    private final SecureRandom random = new SecureRandom();
+    // Слоты с одинаковым остатком делят блокировку: объект блокировки на сессию дороже ее состояния
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private final int[] freeSlots;
+    private int freeCount;
+    private int usedSlots;
+    private int size;
+
+    public WordleSessionStore(WordleDictionary dictionary, int capacity) {
+        if (dictionary == null) {
+            throw new WordleSystemException("Словарь не может быть null");
+        }
+        if (capacity <= 0) {
+            throw new WordleSystemException("Емкость хранилища сессий должна быть положительной: " + capacity);
+        }
+        this.dictionary = dictionary;
+        this.capacity = capacity;
+        this.answerIds = new int[capacity];
+        this.guessIds = new int[capacity * MAX_ATTEMPTS];
+        this.patterns = new byte[capacity * MAX_ATTEMPTS];
+        this.states = new byte[capacity];
+        this.tags = new long[capacity];
+        this.journalIds = new long[capacity];
+        this.slotBits = 64 - Long.numberOfLeadingZeros(capacity);
+        this.freeSlots = new int[capacity];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public long create(int answerId) {
+        if (answerId != NO_ANSWER && (answerId < 0 || answerId >= dictionary.size())) {
+            throw new WordleSystemException("Неверный id загаданного слова: " + answerId);
+        }
+        int slot;
+        allocationLock.lock();
+        try {
+            if (size == capacity) {
+                throw new WordleGameException("Достигнут лимит одновременных игр: " + capacity);
+            }
+            slot = freeCount > 0 ? freeSlots[--freeCount] : usedSlots++;
+            size++;
+        } finally {
+            allocationLock.unlock();
+        }
+        ReentrantLock lock = lockForSlot(slot);
+        lock.lock();
+        try {
+            tags[slot] = nextTag(tags[slot]);
+            journalIds[slot] = 0;
+            answerIds[slot] = answerId;
+            states[slot] = USED_FLAG;
+            return toId(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean remove(long id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        ReentrantLock lock = lockForSlot(slot);
+        lock.lock();
+        try {
+            if (!isLive(id, slot)) {
+                return false;
+            }
+            states[slot] = 0;
+        } finally {
+            lock.unlock();
+        }
+        allocationLock.lock();
+        try {
+            freeSlots[freeCount++] = slot;
+            size--;
+        } finally {
+            allocationLock.unlock();
+        }
+        return true;
+    }
+
+    public boolean contains(long id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        ReentrantLock lock = lockForSlot(slot);
+        lock.lock();
+        try {
+            return isLive(id, slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Блокировка, под которой читаются и меняются столбцы сессии
+    public ReentrantLock getLock(long id) {
+        return lockForSlot(requireSlot(id));
+    }
+
+    // Паттерн догадки с теми же проверками, что и applyGuess, но без изменения сессии: так запись
+    // в журнал может предшествовать ходу. Вызывается под блокировкой сессии
+    public int previewGuess(long id, int wordId) {
+        return checkedPattern(id, requireLive(id), wordId);
+    }
+
+    // Паттерн догадки в разрядах WordleFeedback; вызывается под блокировкой сессии
+    public int applyGuess(long id, int wordId) {
+        int slot = requireLive(id);
+        int pattern = checkedPattern(id, slot, wordId);
+        int state = states[slot];
+        int attempts = state & ATTEMPTS_MASK;
+        guessIds[slot * MAX_ATTEMPTS + attempts] = wordId;
+        patterns[slot * MAX_ATTEMPTS + attempts] = (byte) pattern;
+        state = state + 1 | (pattern == WordleFeedback.ALL_CORRECT ? GUESSED_FLAG : 0);
+        states[slot] = (byte) state;
+        return pattern;
+    }
+
+    public void setJournalId(long id, long journalId) {
+        ReentrantLock lock = getLock(id);
+        lock.lock();
+        try {
+            journalIds[requireLive(id)] = journalId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getJournalId(long id) {
+        return journalIds[requireLive(id)];
+    }
+
+    public int getAnswerId(long id) {
+        return answerIds[requireLive(id)];
+    }
+
+    public int getUsedAttempts(long id) {
+        return states[requireLive(id)] & ATTEMPTS_MASK;
+    }
+
+    public boolean isWordGuessed(long id) {
+        return (states[requireLive(id)] & GUESSED_FLAG) != 0;
+    }
+
+    public int getGuessId(long id, int turn) {
+        return guessIds[historyIndex(id, turn)];
+    }
+
+    public int getPattern(long id, int turn) {
+        return patterns[historyIndex(id, turn)] & 0xFF;
+    }
+
+    // Полноценная партия по истории сессии - для подсказок, которым нужны фильтр и кандидаты
+    public WordleGame restoreGame(long id, WordleLogger logger) {
+        int slot = requireLive(id);
+        if (answerIds[slot] == NO_ANSWER) {
+            throw new WordleSystemException("В сессии нет загаданного слова: " + id);
+        }
+        int length = states[slot] & ATTEMPTS_MASK;
+        int[] ids = new int[length];
+        int[] codes = new int[length];
+        for (int turn = 0; turn < length; turn++) {
+            ids[turn] = guessIds[slot * MAX_ATTEMPTS + turn];
+            codes[turn] = patterns[slot * MAX_ATTEMPTS + turn] & 0xFF;
+        }
+        return new WordleGame(dictionary, logger, answerIds[slot], ids, codes, length);
+    }
+
+    public int size() {
+        allocationLock.lock();
+        try {
+            return size;
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
+    private int checkedPattern(long id, int slot, int wordId) {
+        if (wordId < 0 || wordId >= dictionary.size()) {
+            throw new WordNotFoundInDictionaryException("#" + wordId);
+        }
+        int state = states[slot];
+        if (answerIds[slot] == NO_ANSWER) {
+            throw new WordleSystemException("В сессии нет загаданного слова: " + id);
+        }
+        if ((state & ATTEMPTS_MASK) >= MAX_ATTEMPTS || (state & GUESSED_FLAG) != 0) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        return WordleFeedback.compute(dictionary.getWordCode(wordId), dictionary.getWordCode(answerIds[slot]));
+    }
+
+    private int historyIndex(long id, int turn) {
+        int slot = requireLive(id);
+        if (turn < 0 || turn >= (states[slot] & ATTEMPTS_MASK)) {
+            throw new WordleSystemException("Неверный номер попытки: " + turn);
+        }
+        return slot * MAX_ATTEMPTS + turn;
+    }
+
+    // Младшие slotBits бит id - номер слота плюс один, остальные (без знакового) - метка слота
+    private long toId(int slot) {
+        return tags[slot] << slotBits | slot + 1;
+    }
+
+    // Метка не нулевая и не совпадает с прежней меткой слота
+    private long nextTag(long previous) {
+        long limit = 1L << 63 - slotBits;
+        long tag;
+        do {
+            tag = random.nextLong(1, limit);
+        } while (tag == previous);
+        return tag;
+    }
+
+    private int slotOf(long id) {
+        long slot = (id & (1L << slotBits) - 1) - 1;
+        return slot >= 0 && slot < capacity ? (int) slot : -1;
+    }
+
+    private boolean isLive(long id, int slot) {
+        return (states[slot] & USED_FLAG) != 0 && tags[slot] == id >>> slotBits;
+    }
+
+    private int requireSlot(long id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            throw new WordleGameException("Сессия не найдена: " + id);
+        }
+        return slot;
+    }
+
+    private int requireLive(long id) {
+        int slot = requireSlot(id);
+        if (!isLive(id, slot)) {
+            throw new WordleGameException("Сессия не найдена: " + id);
+        }
+        return slot;
+    }
+
+    private ReentrantLock lockForSlot(int slot) {
+        return locks[slot & LOCK_STRIPES - 1];
+    }
+}
@@ -0,0 +1,182 @@
+package ru.yandex.practicum;
+
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Играет каждым словом словаря как загаданным, выбирая догадки только через generateHint
+public class WordleSimulator {
+
+    private static final int MAX_ATTEMPTS = 6;
+    private static final int HINT_CACHE_CAPACITY = 65_536;
+
+    private final WordleDictionary dictionary;
+    private final WordleHintStrategy hintStrategy;
+    private final WordleDecisionTree openingBook;
+    private final ForkJoinPool pool;
+    // Игры с одинаковой историей знаний получают подсказку из общего кэша, а не считают ее заново
+    private final WordleHintCache hintCache;
+    private final WordleLogger gameLogger =
+            WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()), WordleLogLevel.ERROR);
+
+    // hintStrategy и openingBook необязательны: без них игра подсказывает встроенной эвристикой
+    public WordleSimulator(WordleDictionary dictionary, WordleHintStrategy hintStrategy,
+                           WordleDecisionTree openingBook, ForkJoinPool pool) {
+        if (dictionary == null || pool == null) {
+            throw new WordleSystemException("Словарь и пул потоков не могут быть null");
+        }
+        if (openingBook != null && !openingBook.matches(dictionary)) {
+            throw new WordleSystemException("Дерево решений построено для другого словаря");
+        }
+        this.dictionary = dictionary;
+        this.hintStrategy = hintStrategy;
+        this.openingBook = openingBook;
+        this.pool = pool;
+        this.hintCache = new WordleHintCache(dictionary,
+                hintStrategy == null ? WordleGame.HEURISTIC_STRATEGY_NAME : hintStrategy.getName(), HINT_CACHE_CAPACITY);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Использование: WordleSimulator <словарь> [heuristic|entropy] [матрица] [дерево]");
+            return;
+        }
+        try (WordleLogger logger = WordleLogger.synchronous(
+                new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true), WordleLogLevel.INFO)) {
+            WordleDictionary dictionary = new WordleDictionaryLoader(logger).loadDictionary(args[0]);
+            String strategyName = args.length > 1 ? args[1] : "heuristic";
+            WordleFeedbackMatrix matrix = args.length > 2
+                    ? WordleFeedbackMatrix.loadOrBuild(dictionary, Paths.get(args[2]), logger) : null;
+            WordleHintStrategy strategy;
+            switch (strategyName) {
+                case "heuristic":
+                    strategy = null;
+                    break;
+                case "entropy":
+                    strategy = new WordleEntropyHintStrategy(matrix, ForkJoinPool.commonPool());
+                    break;
+                default:
+                    throw new WordleSystemException("Неизвестная стратегия подсказок: " + strategyName);
+            }
+            WordleDecisionTree openingBook = args.length > 3 ? WordleDecisionTree.load(Paths.get(args[3])) : null;
+
+            WordleSimulator simulator = new WordleSimulator(dictionary, strategy, openingBook, ForkJoinPool.commonPool());
+            PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+            simulator.run().print(out);
+            out.printf("Попаданий в кэш подсказок: %.1f%%%n", simulator.getHintCache().getHitRate() * 100);
+        }
+    }
+
+    public Report run() {
+        return run(IntStream.range(0, dictionary.size()).toArray());
+    }
+
+    public Report run(int[] answerIds) {
+        // Результаты пишутся по индексу ответа, поэтому параллельным играм нечего делить
+        int[] guesses = new int[answerIds.length];
+        long[] latencies = new long[answerIds.length];
+        long start = System.nanoTime();
+        pool.submit(() -> IntStream.range(0, answerIds.length).parallel().forEach(i -> {
+            long gameStart = System.nanoTime();
+            guesses[i] = play(answerIds[i]);
+            latencies[i] = System.nanoTime() - gameStart;
+        })).join();
+        return new Report(guesses, latencies, System.nanoTime() - start);
+    }
+
+    // Число догадок до победы или 0, если попытки кончились
+    int play(int answerId) {
+        WordleGame game = new WordleGame(dictionary, gameLogger, dictionary.getWord(answerId));
+        game.setHintStrategy(hintStrategy);
+        game.setHintCache(hintCache);
+        if (openingBook != null) {
+            game.setOpeningBook(openingBook);
+        }
+        while (!game.isGameOver()) {
+            game.checkGuess(game.generateHint());
+        }
+        return game.isWordGuessed() ? game.getUsedAttempts() : 0;
+    }
+
+    public WordleHintCache getHintCache() {
+        return hintCache;
+    }
+
+    public static class Report {
+
+        private final int[] guessCounts = new int[MAX_ATTEMPTS + 1];
+        private final int games;
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+
+        Report(int[] guesses, long[] latencies, long elapsedNanos) {
+            for (int count : guesses) {
+                guessCounts[count]++;
+            }
+            this.games = guesses.length;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        // Сколько игр выиграно ровно за attempts догадок
+        public int getSolvedIn(int attempts) {
+            if (attempts < 1 || attempts > MAX_ATTEMPTS) {
+                throw new WordleSystemException("Неверное число попыток: " + attempts);
+            }
+            return guessCounts[attempts];
+        }
+
+        public int getFailures() {
+            return guessCounts[0];
+        }
+
+        public double getFailureRate() {
+            return games == 0 ? 0 : (double) guessCounts[0] / games;
+        }
+
+        public double getAverageGuesses() {
+            long total = 0;
+            int solved = 0;
+            for (int attempts = 1; attempts <= MAX_ATTEMPTS; attempts++) {
+                total += (long) attempts * guessCounts[attempts];
+                solved += guessCounts[attempts];
+            }
+            return solved == 0 ? 0 : (double) total / solved;
+        }
+
+        public long getLatencyPercentileNanos(double quantile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(sortedLatencies.length - 1, index))];
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public void print(PrintStream out) {
+            out.printf("Сыграно игр: %d за %d мс%n", games, elapsedNanos / 1_000_000);
+            for (int attempts = 1; attempts <= MAX_ATTEMPTS; attempts++) {
+                out.printf("   %d попыток: %d%n", attempts, guessCounts[attempts]);
+            }
+            out.printf("   не угадано: %d (%.2f%%)%n", guessCounts[0], getFailureRate() * 100);
+            out.printf("Среднее число попыток в выигранных играх: %.3f%n", getAverageGuesses());
+            out.printf("Время игры, мкс: p50=%d p90=%d p99=%d max=%d%n",
+                    getLatencyPercentileNanos(0.50) / 1000, getLatencyPercentileNanos(0.90) / 1000,
+                    getLatencyPercentileNanos(0.99) / 1000, getLatencyPercentileNanos(1.0) / 1000);
+        }
+    }
+}
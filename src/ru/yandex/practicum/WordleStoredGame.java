@@ -0,0 +1,170 @@
+package ru.yandex.practicum;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Легкий фасад с API WordleGame над сессией в WordleSessionStore: создается на запрос и ничего
+// не хранит, кроме id. Методы вызываются под блокировкой сессии (WordleSessionStore.getLock), кроме
+// generateHint по готовому снимку
+public class WordleStoredGame {
+
+    private final WordleSessionStore store;
+    private final long id;
+    private final WordleLogger logger;
+    private final WordleHintStrategy hintStrategy;
+    private final WordleHintCache hintCache;
+    private final WordleJournal journal;
+    // Последняя запись журнала этого фасада; ее fsync ждет awaitJournal
+    private long journalSequence;
+
+    public WordleStoredGame(WordleSessionStore store, long id, WordleLogger logger, WordleHintCache hintCache) {
+        this(store, id, logger, null, hintCache, null);
+    }
+
+    // hintStrategy, hintCache и journal необязательны: без стратегии подсказывает эвристика WordleGame,
+    // без кэша подсказка каждый раз считается заново
+    public WordleStoredGame(WordleSessionStore store, long id, WordleLogger logger, WordleHintStrategy hintStrategy,
+                            WordleHintCache hintCache, WordleJournal journal) {
+        if (store == null) {
+            throw new WordleSystemException("Хранилище сессий не может быть null");
+        }
+        if (logger == null) {
+            throw new WordleSystemException("Логгер не может быть null");
+        }
+        this.store = store;
+        this.id = id;
+        this.logger = logger;
+        this.hintStrategy = hintStrategy;
+        this.hintCache = hintCache;
+        this.journal = journal;
+    }
+
+    public int checkGuess(String guess) {
+        if (isGameOver()) {
+            throw new WordleGameException("Игра уже завершена");
+        }
+        if (guess == null) {
+            throw new WordNotFoundInDictionaryException("Слово не может быть null");
+        }
+
+        int wordId = store.getDictionary().indexOfCode(WordleAlphabet.encodeTrimmed(guess));
+        if (wordId < 0) {
+            throw new WordNotFoundInDictionaryException(WordleAlphabet.normalize(guess));
+        }
+        return checkGuessById(wordId);
+    }
+
+    public int checkGuessById(int wordId) {
+        long start = System.nanoTime();
+        WordleGuessCheckEvent event = new WordleGuessCheckEvent();
+        event.begin();
+        WordleDictionary dictionary = store.getDictionary();
+        long journalId = journal == null ? 0 : store.getJournalId(id);
+        // Догадка пишется в журнал до хода: если запись не удалась, попытка не тратится
+        if (journalId != 0) {
+            int pattern = store.previewGuess(id, wordId);
+            journalSequence = journal.append(WordleJournal.EventType.GUESS, journalId, getUsedAttempts() + 1,
+                    dictionary.getWordCode(wordId), pattern);
+        }
+        int pattern = store.applyGuess(id, wordId);
+        if (journalId != 0 && isGameOver()) {
+            // Ход уже сделан и записан; итог партии выводится из записанных догадок, поэтому ошибка
+            // этой записи только логируется
+            try {
+                journalSequence = journal.append(WordleJournal.EventType.FINISHED, journalId, getUsedAttempts(),
+                        dictionary.getWordCode(store.getAnswerId(id)), isWordGuessed() ? 1 : 0);
+            } catch (WordleSystemException e) {
+                logger.error("Не удалось записать завершение партии " + journalId + ": " + e.getMessage());
+            }
+        }
+        if (logger.isEnabled(WordleLogLevel.INFO)) {
+            logger.info("Проверка слова: " + store.getDictionary().getWord(wordId) + " -> "
+                    + WordleFeedback.toString(pattern) + " (осталось попыток: " + getRemainingAttempts() + ")");
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.guess = store.getDictionary().getWord(wordId);
+            event.pattern = WordleFeedback.toString(pattern);
+            event.remainingAttempts = getRemainingAttempts();
+            event.commit();
+        }
+        WordleMetrics.global().recordCheckGuess(System.nanoTime() - start);
+        return pattern;
+    }
+
+    // Ждет fsync записей последней догадки; вызывается уже без блокировки сессии, перед ответом
+    // клиенту, чтобы подтвержденный ход не пропал при сбое
+    public void awaitJournal() {
+        if (journalSequence > 0) {
+            journal.sync(journalSequence);
+        }
+    }
+
+    public boolean isGameOver() {
+        return getRemainingAttempts() <= 0 || isWordGuessed();
+    }
+
+    public boolean isWordGuessed() {
+        return store.isWordGuessed(id);
+    }
+
+    public String generateHint() {
+        return generateHint(WordleHintDeadline.none());
+    }
+
+    // Фильтр и кандидаты не хранятся: партия восстанавливается по истории только на время подсказки
+    public String generateHint(WordleHintDeadline deadline) {
+        return generateHint(snapshot(), deadline);
+    }
+
+    // Независимая копия партии по текущей истории. Под блокировкой сессии нужен только этот снимок:
+    // подсказку по нему можно считать, уже отпустив блокировку, и не держать соседние сессии полосы
+    public WordleGame snapshot() {
+        WordleGame game = store.restoreGame(id, logger);
+        game.setHintStrategy(hintStrategy);
+        game.setHintCache(hintCache);
+        long journalId = journal == null ? 0 : store.getJournalId(id);
+        if (journalId != 0) {
+            // Снимок сам запишет подсказку под id партии и после того, как сессию удалят
+            game.attachJournal(journal, journalId);
+        }
+        return game;
+    }
+
+    public String generateHint(WordleGame snapshot, WordleHintDeadline deadline) {
+        return snapshot.generateHint(deadline);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    // id партии в журнале, 0 - партия не пишется в журнал
+    public long getJournalId() {
+        return store.getJournalId(id);
+    }
+
+    public String getAnswer() {
+        return store.getDictionary().getWord(store.getAnswerId(id));
+    }
+
+    public int getCandidateCount() {
+        return store.restoreGame(id, logger).getCandidateCount();
+    }
+
+    public int getRemainingAttempts() {
+        return WordleSessionStore.MAX_ATTEMPTS - store.getUsedAttempts(id);
+    }
+
+    public int getUsedAttempts() {
+        return store.getUsedAttempts(id);
+    }
+
+    public Set<String> getPreviousGuesses() {
+        Set<String> guesses = new HashSet<>();
+        for (int turn = 0; turn < store.getUsedAttempts(id); turn++) {
+            guesses.add(store.getDictionary().getWord(store.getGuessId(id, turn)));
+        }
+        return guesses;
+    }
+}
@@ -0,0 +1,65 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleAbsurdleGameTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+    private final WordlePartitioner partitioner = new WordlePartitioner(dictionary, null);
+
+    @Test
+    @DisplayName("Игра выигрывается, только когда назван последний кандидат")
+    void checkGuess_WinsOnLastCandidate() {
+        WordleAbsurdleGame game = new WordleAbsurdleGame(partitioner, logger);
+        assertEquals(5, game.getCandidateCount());
+
+        assertEquals("^---^", WordleFeedback.toString(game.checkGuess("ручка")));
+        assertEquals(2, game.getCandidateCount());
+        assertFalse(game.isGameOver());
+
+        game.checkGuess(" БАРАН ");
+        assertEquals("сарай", game.getAnswer());
+        assertFalse(game.isWordGuessed());
+
+        assertEquals(WordleFeedback.ALL_CORRECT, game.checkGuessById(dictionary.indexOf("сарай")));
+        assertTrue(game.isWordGuessed());
+        assertEquals(3, game.getUsedAttempts());
+        assertThrows(WordleGameException.class, () -> game.checkGuess("ручка"));
+    }
+
+    @Test
+    @DisplayName("Паттерны ответов согласованы с любым из оставшихся кандидатов")
+    void checkGuess_PatternsConsistentWithCandidates() {
+        WordleAbsurdleGame game = new WordleAbsurdleGame(partitioner, logger);
+        List<Integer> guesses = new ArrayList<>();
+        List<Integer> patterns = new ArrayList<>();
+        for (String word : Arrays.asList("тесто", "салат", "ручка")) {
+            guesses.add(dictionary.indexOf(word));
+            patterns.add(game.checkGuess(word));
+        }
+
+        int answerCode = WordleAlphabet.encode(game.getAnswer());
+        for (int i = 0; i < guesses.size(); i++) {
+            assertEquals(patterns.get(i), WordleFeedback.compute(dictionary.getWordCode(guesses.get(i)), answerCode));
+        }
+    }
+
+    @Test
+    @DisplayName("Слова вне словаря отклоняются")
+    void checkGuess_RejectsUnknownWords() {
+        WordleAbsurdleGame game = new WordleAbsurdleGame(partitioner, logger);
+
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.checkGuess(null));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.checkGuess("ааааа"));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> game.checkGuessById(-1));
+        assertEquals(0, game.getUsedAttempts());
+    }
+}
@@ -0,0 +1,84 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleAlphabetTest {
+
+    @Test
+    @DisplayName("Кодирование и декодирование слова")
+    void encodeDecode_RoundTrip() {
+        for (String word : new String[]{"ручка", "аббат", "яяяяя", "ершик", "эхъюь"}) {
+            int code = WordleAlphabet.encode(word);
+            assertNotEquals(WordleAlphabet.INVALID_WORD, code);
+            assertTrue(code >= 0);
+            assertEquals(word, WordleAlphabet.decode(code));
+        }
+    }
+
+    @Test
+    @DisplayName("Кодирование сворачивает регистр и ё в е")
+    void encode_FoldsCaseAndYo() {
+        int code = WordleAlphabet.encode("челка");
+        assertEquals(code, WordleAlphabet.encode("ЧЁЛКА"));
+        assertEquals(code, WordleAlphabet.encode("чёлка"));
+        assertEquals(WordleAlphabet.letterCode('е'), WordleAlphabet.letterCode('ё'));
+        assertEquals(WordleAlphabet.letterCode('е'), WordleAlphabet.letterCode('Ё'));
+    }
+
+    @Test
+    @DisplayName("Некорректные слова не кодируются")
+    void encode_InvalidWords_ReturnsInvalid() {
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode(null));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode("кот"));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode("длинноеслово"));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode("table"));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode("стolк"));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encode(" ручк"));
+        assertEquals(-1, WordleAlphabet.letterCode('ѐ'));
+    }
+
+    @Test
+    @DisplayName("Буквы упакованного слова доступны по позициям")
+    void letterAt_ReturnsLetterCodes() {
+        int code = WordleAlphabet.encode("герой");
+        String word = "герой";
+        for (int i = 0; i < 5; i++) {
+            assertEquals(word.charAt(i), WordleAlphabet.letter(WordleAlphabet.letterAt(code, i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Нормализация за один проход")
+    void normalize_TrimsLowercasesAndFoldsYo() {
+        assertEquals("стоел", WordleAlphabet.normalize("  СТОЁЛ  "));
+        assertEquals("мед", WordleAlphabet.normalize("\tМЁД\n"));
+        assertEquals("table", WordleAlphabet.normalize(" TaBlE "));
+        assertEquals("", WordleAlphabet.normalize("   "));
+        assertNull(WordleAlphabet.normalize(null));
+
+        String normalized = "ручка";
+        assertSame(normalized, WordleAlphabet.normalize(normalized));
+    }
+
+    @Test
+    @DisplayName("Кодирование с обрезкой пробелов")
+    void encodeTrimmed_SkipsSurroundingWhitespace() {
+        int code = WordleAlphabet.encode("ручка");
+        assertEquals(code, WordleAlphabet.encodeTrimmed(" РУЧКА "));
+        assertEquals(code, WordleAlphabet.encodeTrimmed("ручка"));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encodeTrimmed(" руч ка "));
+        assertEquals(WordleAlphabet.INVALID_WORD, WordleAlphabet.encodeTrimmed(null));
+    }
+
+    @Test
+    @DisplayName("Проверка пользовательского ввода")
+    void isValidWord_RequiresFiveRussianLetters() {
+        assertTrue(WordleAlphabet.isValidWord("ЧЁЛКА"));
+        assertFalse(WordleAlphabet.isValidWord(" ручка"));
+        assertFalse(WordleAlphabet.isValidWord("стolк"));
+        assertFalse(WordleAlphabet.isValidWord(null));
+    }
+}
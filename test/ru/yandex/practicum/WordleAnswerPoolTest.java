@@ -0,0 +1,97 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleAnswerPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой"), logger);
+
+    private int id(String word) {
+        return dictionary.indexOf(word);
+    }
+
+    @Test
+    @DisplayName("Таблица псевдонимов воспроизводит веса точно")
+    void aliasTable_MatchesWeights() {
+        int[] ids = {id("ручка"), id("тесто"), id("баран"), id("сарай")};
+        double[] weights = {5, 1, 3, 1};
+
+        WordleAnswerPool pool = new WordleAnswerPool(dictionary, ids, weights);
+
+        assertEquals(0.5, pool.probabilityOf(id("ручка")), 1e-12);
+        assertEquals(0.1, pool.probabilityOf(id("тесто")), 1e-12);
+        assertEquals(0.3, pool.probabilityOf(id("баран")), 1e-12);
+        assertEquals(0.1, pool.probabilityOf(id("сарай")), 1e-12);
+        assertEquals(0.0, pool.probabilityOf(id("герой")), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Частоты выборки близки к весам, слова с нулевым весом не выпадают")
+    void sample_FollowsWeights() {
+        int[] ids = {id("ручка"), id("тесто"), id("салат")};
+        WordleAnswerPool pool = new WordleAnswerPool(dictionary, ids, new double[]{3, 1, 0});
+        SplittableRandom random = new SplittableRandom(1);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 40_000; i++) {
+            counts.merge(pool.sample(random), 1, Integer::sum);
+        }
+
+        assertEquals(2, pool.size());
+        assertNull(counts.get("салат"));
+        assertEquals(30_000, counts.get("ручка"), 600);
+        assertEquals(10_000, counts.get("тесто"), 600);
+    }
+
+    @Test
+    @DisplayName("Некорректные веса и пустой пул отклоняются")
+    void constructor_RejectsInvalidInput() {
+        int[] ids = {id("ручка")};
+        assertThrows(WordleSystemException.class, () -> new WordleAnswerPool(dictionary, ids, new double[]{-1}));
+        assertThrows(WordleSystemException.class, () -> new WordleAnswerPool(dictionary, ids, new double[]{Double.NaN}));
+        assertThrows(WordleSystemException.class, () -> new WordleAnswerPool(dictionary, ids, new double[]{0}));
+        assertThrows(WordleSystemException.class, () -> new WordleAnswerPool(dictionary, new int[]{99}, new double[]{1}));
+        assertThrows(WordleSystemException.class, () -> new WordleAnswerPool(dictionary, ids, new double[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("Загрузка из файла пропускает чужие слова, повторы и неверные веса")
+    void load_SkipsInvalidLines() throws IOException {
+        Path file = tempDir.resolve("answers.txt");
+        Files.write(file, Arrays.asList("ручка 4", "ТЕСТО", "", "кошка 2", "ручка 1", "баран abc", "сарай 0"),
+                StandardCharsets.UTF_8);
+
+        WordleAnswerPool pool = WordleAnswerPool.load(dictionary, file, logger);
+
+        assertEquals(2, pool.size());
+        assertEquals(0.8, pool.probabilityOf(id("ручка")), 1e-12);
+        assertEquals(0.2, pool.probabilityOf(id("тесто")), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Реестр сессий загадывает слова из пула")
+    void registry_UsesAnswerPool() {
+        WordleAnswerPool pool = new WordleAnswerPool(dictionary, new int[]{id("герой")}, new double[]{1});
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 10, pool);
+
+        assertEquals("герой", registry.create().getGame().getAnswer());
+
+        WordleDictionary other = new WordleDictionary(Arrays.asList("герой"), logger);
+        assertThrows(WordleSystemException.class, () -> new WordleSessionRegistry(other, logger, 10, pool));
+    }
+}
@@ -0,0 +1,134 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleDecisionTreeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream logOutput = new ByteArrayOutputStream();
+    private final PrintWriter logWriter = new PrintWriter(new OutputStreamWriter(logOutput, StandardCharsets.UTF_8), true);
+    private final List<String> words = Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "травы",
+            "оборо", "огоно", "тараа", "стоит", "молот", "роман", "ветер"
+    );
+    private final WordleDictionary dictionary = new WordleDictionary(words, logWriter);
+    private final WordleFeedbackMatrix matrix = WordleFeedbackMatrix.build(dictionary);
+
+    private WordleDecisionTreeBuilder builder() {
+        return new WordleDecisionTreeBuilder(
+                dictionary, matrix, 3, 2, ForkJoinPool.commonPool(), WordleLogger.synchronous(logWriter));
+    }
+
+    @Test
+    @DisplayName("Дерево решений отгадывает каждое слово словаря")
+    void tree_SolvesEveryAnswer() {
+        Path file = tempDir.resolve("tree.bin");
+        WordleDecisionTreeBuilder.Node root = builder().build(file, null);
+        WordleDecisionTree tree = WordleDecisionTree.load(file);
+
+        assertTrue(tree.matches(dictionary));
+        assertEquals(root.size(), tree.getNodeCount());
+        assertEquals(root.getGuessId(), tree.getRootGuess());
+
+        long totalGuesses = 0;
+        for (int answer = 0; answer < dictionary.size(); answer++) {
+            int[] guesses = new int[6];
+            int[] patterns = new int[6];
+            int length = 0;
+            while (true) {
+                int guess = tree.lookup(guesses, patterns, length);
+                assertTrue(guess >= 0, "Игра ушла с дерева для " + dictionary.getWord(answer));
+                guesses[length] = guess;
+                patterns[length] = matrix.getPattern(guess, answer);
+                length++;
+                if (patterns[length - 1] == WordleFeedback.ALL_CORRECT) break;
+                assertTrue(length < 6);
+            }
+            totalGuesses += length;
+        }
+        assertEquals(root.getCost(), totalGuesses);
+    }
+
+    @Test
+    @DisplayName("Сборка продолжается с контрольных точек")
+    void build_ResumesFromCheckpoints() throws IOException {
+        Path checkpoints = tempDir.resolve("checkpoints");
+        WordleDecisionTreeBuilder.Node first = builder().build(tempDir.resolve("first.bin"), checkpoints);
+        long parts;
+        try (var files = Files.list(checkpoints)) {
+            parts = files.filter(p -> p.toString().endsWith(".part")).count();
+        }
+        assertTrue(parts > 0);
+
+        WordleDecisionTreeBuilder.Node resumed = builder().build(tempDir.resolve("second.bin"), checkpoints);
+        assertEquals(first.getCost(), resumed.getCost());
+        assertArrayEquals(Files.readAllBytes(tempDir.resolve("first.bin")), Files.readAllBytes(tempDir.resolve("second.bin")));
+    }
+
+    @Test
+    @DisplayName("Контрольные точки другой сборки не подхватываются")
+    void build_IgnoresCheckpointsOfOtherParameters() throws IOException {
+        Path checkpoints = tempDir.resolve("checkpoints");
+        builder().build(tempDir.resolve("first.bin"), checkpoints);
+
+        WordleDecisionTreeBuilder greedy = new WordleDecisionTreeBuilder(
+                dictionary, matrix, 1, 0, ForkJoinPool.commonPool(), WordleLogger.synchronous(logWriter));
+        greedy.build(tempDir.resolve("resumed.bin"), checkpoints);
+        String log = logOutput.toString(StandardCharsets.UTF_8);
+        assertTrue(log.contains("Контрольная точка от сборки с другим словарем или параметрами"));
+
+        new WordleDecisionTreeBuilder(
+                dictionary, matrix, 1, 0, ForkJoinPool.commonPool(), WordleLogger.synchronous(logWriter))
+                .build(tempDir.resolve("fresh.bin"), null);
+        assertArrayEquals(Files.readAllBytes(tempDir.resolve("fresh.bin")), Files.readAllBytes(tempDir.resolve("resumed.bin")));
+    }
+
+    @Test
+    @DisplayName("Игра отвечает подсказкой из дерева, пока история на ветках")
+    void game_UsesOpeningBook() {
+        Path file = tempDir.resolve("tree.bin");
+        builder().build(file, null);
+        WordleDecisionTree tree = WordleDecisionTree.load(file);
+
+        WordleGame game = new WordleGame(dictionary, logWriter);
+        game.setOpeningBook(tree);
+        String hint = game.generateHint();
+        assertEquals(dictionary.getWord(tree.getRootGuess()), hint);
+
+        game.checkGuess(hint);
+        if (!game.isWordGuessed()) {
+            String next = game.generateHint();
+            assertNotEquals(hint, next);
+            game.checkGuess(next);
+        }
+    }
+
+    @Test
+    @DisplayName("Дерево другого словаря отклоняется")
+    void openingBook_ForOtherDictionary_Rejected() throws IOException {
+        Path file = tempDir.resolve("tree.bin");
+        builder().build(file, null);
+        WordleDecisionTree tree = WordleDecisionTree.load(file);
+
+        WordleDictionary other = new WordleDictionary(Arrays.asList("ручка", "тесто"), logWriter);
+        WordleGame game = new WordleGame(other, logWriter);
+        assertThrows(WordleSystemException.class, () -> game.setOpeningBook(tree));
+
+        Files.write(file, new byte[]{0, 1, 2, 3});
+        assertThrows(WordleSystemException.class, () -> WordleDecisionTree.load(file));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -222,6 +223,65 @@ class WordleDictionaryLoaderTest {
         testFile.delete();
     }
 
+    @Test
+    @DisplayName("Снимок словаря создается при первой загрузке и используется при следующей")
+    void loadDictionary_WithSnapshot_ReusesSnapshot() throws IOException {
+        File testFile = createTempFile("аббат\nавеню\nавгит\nкот\n");
+        File snapshot = new File(testFile.getAbsolutePath() + ".snapshot");
+        snapshot.deleteOnExit();
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(testLogWriter);
+        WordleDictionary fromText = loader.loadDictionary(testFile.getAbsolutePath(), snapshot.toPath());
+        assertTrue(snapshot.exists());
+
+        WordleDictionary fromSnapshot = loader.loadDictionary(testFile.getAbsolutePath(), snapshot.toPath());
+        testLogWriter.flush();
+
+        assertTrue(logOutput.toString(StandardCharsets.UTF_8).contains("Загрузка словаря из снимка"));
+        assertEquals(fromText.getWords(), fromSnapshot.getWords());
+        assertEquals(fromText.getChecksum(), fromSnapshot.getChecksum());
+
+        snapshot.delete();
+        testFile.delete();
+    }
+
+    @Test
+    @DisplayName("Устаревший снимок заменяется данными из текстового файла")
+    void loadDictionary_StaleSnapshot_FallsBackToText() throws IOException {
+        File testFile = createTempFile("аббат\nавеню\n");
+        File snapshot = new File(testFile.getAbsolutePath() + ".snapshot");
+        snapshot.deleteOnExit();
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(testLogWriter);
+        loader.loadDictionary(testFile.getAbsolutePath(), snapshot.toPath());
+
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(testFile), StandardCharsets.UTF_8))) {
+            writer.print("аббат\nавеню\nбанан\n");
+        }
+        WordleDictionary dictionary = loader.loadDictionary(testFile.getAbsolutePath(), snapshot.toPath());
+
+        assertEquals(3, dictionary.getWords().size());
+        assertTrue(dictionary.contains("банан"));
+
+        try (FileOutputStream out = new FileOutputStream(snapshot)) {
+            out.write(new byte[]{1, 2, 3});
+        }
+        assertEquals(3, loader.loadDictionary(testFile.getAbsolutePath(), snapshot.toPath()).size());
+
+        snapshot.delete();
+        testFile.delete();
+    }
+
+    @Test
+    @DisplayName("Снимок словаря по умолчанию лежит рядом со словарем и не зависит от запускаемой программы")
+    void defaultSnapshotPath_ReplacesExtension() {
+        assertEquals(Paths.get("words_ru.snapshot"),
+                WordleDictionarySnapshot.defaultPath(Paths.get("words_ru.txt")));
+        assertEquals(Paths.get("data", "words.snapshot"),
+                WordleDictionarySnapshot.defaultPath(Paths.get("data", "words")));
+        assertThrows(WordleSystemException.class, () -> WordleDictionarySnapshot.defaultPath(null));
+    }
+
     private File createTempFile(String content) throws IOException {
         File tempFile = File.createTempFile("test_dict", ".txt");
         tempFile.deleteOnExit();
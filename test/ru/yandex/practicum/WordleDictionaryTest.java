@@ -108,7 +108,7 @@ class WordleDictionaryTest {
     @Test
     @DisplayName("Создание словаря с null логгером")
     void constructor_NullLogger_ThrowsException() {
-        assertThrows(WordleSystemException.class, () -> new WordleDictionary(Arrays.asList("слово"), null));
+        assertThrows(WordleSystemException.class, () -> new WordleDictionary(Arrays.asList("слово"), (PrintWriter) null));
     }
 
     @Test
@@ -143,4 +143,91 @@ class WordleDictionaryTest {
 
         assertTrue(log.contains("Выбрано случайное слово"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("indexOf возвращает позицию слова в словаре")
+    void indexOf_ReturnsWordPosition() {
+        List<String> words = dictionary.getWords();
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, dictionary.indexOf(words.get(i)));
+        }
+        assertEquals(-1, dictionary.indexOf("молот"));
+        assertEquals(-1, dictionary.indexOf(null));
+    }
+
+    @Test
+    @DisplayName("Поиск работает на большом словаре с дубликатами")
+    void contains_LargeDictionaryWithDuplicates() {
+        List<String> words = new ArrayList<>();
+        String letters = "абвгдежзийклмнопрстуфхцчшщъыьэюя";
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder word = new StringBuilder();
+            int n = i;
+            for (int j = 0; j < 5; j++) {
+                word.append(letters.charAt(n % letters.length()));
+                n /= letters.length();
+            }
+            words.add(word.toString());
+        }
+        words.add(words.get(0));
+        WordleDictionary large = new WordleDictionary(words, testLogWriter);
+
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(large.contains(words.get(i)));
+            assertEquals(i, large.indexOf(words.get(i)));
+        }
+        assertFalse(large.contains("яяяяя"));
+    }
+
+    @Test
+    @DisplayName("Доступ к словам по кодам и id")
+    void wordCodesAndIds() {
+        int id = dictionary.indexOf("баран");
+        assertTrue(id >= 0);
+        assertEquals("баран", dictionary.getWord(id));
+        assertEquals(WordleAlphabet.encode("баран"), dictionary.getWordCode(id));
+        assertEquals(id, dictionary.indexOfCode(WordleAlphabet.encode("баран")));
+        assertTrue(dictionary.containsCode(WordleAlphabet.encode("чёлка")));
+        assertFalse(dictionary.containsCode(WordleAlphabet.encode("молот")));
+        assertFalse(dictionary.containsCode(WordleAlphabet.INVALID_WORD));
+        assertEquals(6, dictionary.size());
+        assertThrows(WordleSystemException.class, () -> dictionary.getWordCode(6));
+    }
+
+    @Test
+    @DisplayName("Одинаковый seed генератора дает одинаковую последовательность слов")
+    void getRandomWord_SeededGenerator_IsReproducible() {
+        SplittableRandom first = new SplittableRandom(7);
+        SplittableRandom second = new SplittableRandom(7);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(dictionary.getRandomWord(first), dictionary.getRandomWord(second));
+        }
+        assertThrows(WordleSystemException.class, () -> dictionary.getRandomWord(null));
+    }
+
+    @Test
+    @DisplayName("Словарь безопасно используется из многих потоков")
+    void getRandomWord_ConcurrentCalls_ReturnDictionaryWords() throws InterruptedException {
+        Set<String> words = new HashSet<>(dictionary.getWords());
+        Set<String> seen = Collections.synchronizedSet(new HashSet<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    String word = dictionary.getRandomWord();
+                    assertTrue(dictionary.contains(word));
+                    seen.add(word);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(words, seen);
+    }
+}
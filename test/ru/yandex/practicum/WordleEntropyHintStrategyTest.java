@@ -0,0 +1,210 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleEntropyHintStrategyTest {
+
+    private final PrintWriter logWriter = new PrintWriter(new OutputStreamWriter(
+            new ByteArrayOutputStream(), StandardCharsets.UTF_8), true);
+    private final List<String> words = Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "травы",
+            "оборо", "огоно", "тараа", "стоит", "молот", "роман", "ветер"
+    );
+    private final WordleDictionary dictionary = new WordleDictionary(words, logWriter);
+
+    // Синтетический словарь из случайных кодов слов: настоящий для таких размеров слишком мал
+    private WordleDictionary randomDictionary(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Set<Integer> codes = new LinkedHashSet<>();
+        while (codes.size() < size) {
+            int code = 0;
+            for (int i = 0; i < WordleAlphabet.WORD_LENGTH; i++) {
+                code |= random.nextInt(WordleAlphabet.LETTER_COUNT) << (WordleAlphabet.BITS_PER_LETTER * i);
+            }
+            codes.add(code);
+        }
+        return WordleDictionary.fromCodes(codes.stream().mapToInt(Integer::intValue).toArray(),
+                WordleLogger.synchronous(logWriter));
+    }
+
+    private int[] allIds() {
+        int[] ids = new int[dictionary.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = i;
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Выбирается догадка с максимальной ожидаемой информацией")
+    void selectHint_MaximizesExpectedInformation() {
+        int[] ids = allIds();
+        int hint = new WordleEntropyHintStrategy().selectHint(dictionary, ids, ids.length);
+
+        double best = WordleEntropyHintStrategy.expectedInformation(dictionary, hint, ids, ids.length);
+        for (int guess = 0; guess < dictionary.size(); guess++) {
+            assertTrue(WordleEntropyHintStrategy.expectedInformation(dictionary, guess, ids, ids.length) <= best + 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Результат с матрицей паттернов совпадает с прямым вычислением")
+    void selectHint_WithMatrix_SameResult() {
+        int[] ids = allIds();
+        WordleHintStrategy direct = new WordleEntropyHintStrategy();
+        WordleHintStrategy withMatrix = new WordleEntropyHintStrategy(
+                WordleFeedbackMatrix.build(dictionary), ForkJoinPool.commonPool());
+
+        assertEquals(direct.selectHint(dictionary, ids, ids.length), withMatrix.selectHint(dictionary, ids, ids.length));
+        int[] subset = {dictionary.indexOf("баран"), dictionary.indexOf("сарай"), dictionary.indexOf("салат"),
+                dictionary.indexOf("травы")};
+        assertEquals(direct.selectHint(dictionary, subset, subset.length),
+                withMatrix.selectHint(dictionary, subset, subset.length));
+    }
+
+    @Test
+    @DisplayName("Игра использует заданную стратегию подсказок")
+    void game_UsesEntropyStrategy() {
+        WordleGame game = new WordleGame(dictionary, logWriter);
+        game.setHintStrategy(new WordleEntropyHintStrategy());
+        int[] ids = allIds();
+
+        String hint = game.generateHint();
+        assertEquals(dictionary.getWord(new WordleEntropyHintStrategy().selectHint(dictionary, ids, ids.length)), hint);
+    }
+
+    @Test
+    @DisplayName("Без кандидатов стратегия бросает исключение")
+    void selectHint_NoCandidates_Throws() {
+        assertThrows(WordleSystemException.class,
+                () -> new WordleEntropyHintStrategy().selectHint(dictionary, new int[0], 0));
+    }
+
+    @Test
+    @DisplayName("Без срока результат тот же, что у полного перебора")
+    void selectHint_WithoutDeadline_SameAsFullSearch() {
+        int[] ids = allIds();
+        WordleHintStrategy strategy = new WordleEntropyHintStrategy();
+
+        assertEquals(strategy.selectHint(dictionary, ids, ids.length),
+                strategy.selectHint(dictionary, ids, ids.length, WordleHintDeadline.cancellable()));
+    }
+
+    @Test
+    @DisplayName("Истекший или отмененный срок - подсказка без перебора, первая по приоритету")
+    void selectHint_ExpiredDeadline_ReturnsPriorityGuess() {
+        int[] ids = allIds();
+        WordleHintStrategy strategy = new WordleEntropyHintStrategy();
+        WordleHintDeadline cancelled = WordleHintDeadline.cancellable();
+        cancelled.cancel();
+
+        int expired = strategy.selectHint(dictionary, ids, ids.length, WordleHintDeadline.after(Duration.ZERO));
+
+        assertEquals(expired, strategy.selectHint(dictionary, ids, ids.length, cancelled));
+        assertTrue(expired >= 0 && expired < dictionary.size());
+        assertThrows(WordleSystemException.class, () -> WordleHintDeadline.none().cancel());
+    }
+
+    @Test
+    @DisplayName("Срок от limit отсчитывается с вызова и отменяется вместе с исходным")
+    void deadlineLimit_StartsOnCallAndFollowsCancel() {
+        WordleHintDeadline cancellation = WordleHintDeadline.cancellable();
+        WordleHintDeadline limited = cancellation.limit(Duration.ofSeconds(10));
+        assertFalse(limited.isExpired());
+        assertTrue(cancellation.limit(Duration.ZERO).isExpired());
+        assertFalse(cancellation.isExpired());
+
+        cancellation.cancel();
+        assertTrue(limited.isCancelled());
+        assertTrue(limited.isExpired());
+    }
+
+    @Test
+    @DisplayName("Большой словарь: подсказка укладывается в срок и отменяется из другого потока")
+    void selectHint_LargeDictionary_RespectsDeadlineAndCancel() throws Exception {
+        WordleDictionary large = randomDictionary(6000, 3);
+        int[] ids = new int[large.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = i;
+        WordleHintStrategy strategy = new WordleEntropyHintStrategy();
+
+        long start = System.nanoTime();
+        int hint = strategy.selectHint(large, ids, ids.length, WordleHintDeadline.after(Duration.ofMillis(20)));
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+        assertTrue(hint >= 0 && hint < large.size());
+
+        WordleHintDeadline deadline = WordleHintDeadline.cancellable();
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+                // Отмена сработает и раньше
+            }
+            deadline.cancel();
+        });
+        start = System.nanoTime();
+        canceller.start();
+        strategy.selectHint(large, ids, ids.length, deadline);
+        canceller.join();
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+        assertTrue(deadline.isCancelled());
+    }
+
+    @Test
+    @DisplayName("Размер выборки следует из доверия и точности")
+    void sampleSize_FollowsConfidenceAndTolerance() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertEquals(2050, new WordleEntropyHintStrategy().getSampleSize());
+        assertEquals(185, new WordleEntropyHintStrategy(null, pool, 0.95, 0.1).getSampleSize());
+        assertTrue(new WordleEntropyHintStrategy(null, pool, 0.99, 0.1).getSampleSize() > 185);
+    }
+
+    @Test
+    @DisplayName("Неверные параметры выборки отклоняются")
+    void constructor_InvalidSampling_Throws() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(WordleSystemException.class, () -> new WordleEntropyHintStrategy(null, pool, 1.0, 0.1));
+        assertThrows(WordleSystemException.class, () -> new WordleEntropyHintStrategy(null, pool, 0.95, 0));
+        assertThrows(WordleSystemException.class, () -> new WordleEntropyHintStrategy(null, pool, Double.NaN, 0.1));
+    }
+
+    @Test
+    @DisplayName("Малое число кандидатов оценивается точно, даже с маленькой выборкой")
+    void selectHint_FewCandidates_ExactScoring() {
+        WordleEntropyHintStrategy sampled = new WordleEntropyHintStrategy(null, ForkJoinPool.commonPool(), 0.5, 0.45);
+        assertTrue(sampled.getSampleSize() < dictionary.size());
+        int[] ids = {0, 1, 2};
+        assertTrue(ids.length <= sampled.getSampleSize());
+        assertEquals(new WordleEntropyHintStrategy().selectHint(dictionary, ids, ids.length),
+                sampled.selectHint(dictionary, ids, ids.length));
+    }
+
+    @Test
+    @DisplayName("Оценка по выборке детерминирована и почти так же хороша, как точная")
+    void selectHint_ManyCandidates_SampledCloseToExact() {
+        WordleDictionary large = randomDictionary(1000, 5);
+        int[] ids = new int[large.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = i;
+        WordleEntropyHintStrategy sampled = new WordleEntropyHintStrategy(null, ForkJoinPool.commonPool(), 0.95, 0.1);
+        assertTrue(ids.length > sampled.getSampleSize());
+
+        int hint = sampled.selectHint(large, ids, ids.length);
+        assertEquals(hint, sampled.selectHint(large, ids, ids.length));
+
+        double best = 0;
+        for (int g = 0; g < large.size(); g++) {
+            best = Math.max(best, WordleEntropyHintStrategy.expectedInformation(large, g, ids, ids.length));
+        }
+        assertTrue(WordleEntropyHintStrategy.expectedInformation(large, hint, ids, ids.length) >= 0.9 * best);
+    }
+}
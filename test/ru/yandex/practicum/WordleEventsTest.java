@@ -0,0 +1,126 @@
+package ru.yandex.practicum;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final List<String> ALL_EVENTS = Arrays.asList("ru.yandex.practicum.DictionaryLoad",
+            "ru.yandex.practicum.GuessCheck", "ru.yandex.practicum.HintComputation",
+            "ru.yandex.practicum.CandidateRebuild");
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+
+    private List<RecordedEvent> record(Set<String> enabled, Runnable action) throws IOException {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : ALL_EVENTS) {
+                if (enabled.contains(name)) {
+                    recording.enable(name).withoutThreshold();
+                } else {
+                    recording.disable(name);
+                }
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (event.getEventType().getName().startsWith("ru.yandex.practicum.")) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Игра пишет события проверки, подсказки и перестроения кэша")
+    void game_EmitsStructuredEvents() throws IOException {
+        WordleDictionary dictionary = new WordleDictionary(
+                Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+        Set<String> names = new HashSet<>(Arrays.asList("ru.yandex.practicum.GuessCheck",
+                "ru.yandex.practicum.HintComputation", "ru.yandex.practicum.CandidateRebuild"));
+
+        List<RecordedEvent> events = record(names, () -> {
+            WordleGame game = new WordleGame(dictionary, logger, "сарай");
+            game.checkGuess("баран");
+            game.generateHint();
+        });
+
+        RecordedEvent guess = ofType(events, "ru.yandex.practicum.GuessCheck").get(0);
+        assertEquals("баран", guess.getString("guess"));
+        assertEquals("-+++-", guess.getString("pattern"));
+        assertEquals(5, guess.getInt("remainingAttempts"));
+
+        RecordedEvent hint = ofType(events, "ru.yandex.practicum.HintComputation").get(0);
+        assertEquals("heuristic", hint.getString("strategy"));
+        assertEquals(1, hint.getInt("attempt"));
+        assertTrue(hint.getInt("candidatesAfter") <= hint.getInt("candidatesBefore"));
+        assertTrue(hint.getString("correctPositions").contains("а"));
+        assertNotNull(hint.getString("absentLetters"));
+
+        RecordedEvent rebuild = ofType(events, "ru.yandex.practicum.CandidateRebuild").get(0);
+        assertEquals(hint.getInt("candidatesBefore"), rebuild.getInt("candidates"));
+    }
+
+    @Test
+    @DisplayName("Догадка в игре сервера пишет то же событие проверки")
+    void storedGame_EmitsGuessCheck() throws IOException {
+        WordleDictionary dictionary = new WordleDictionary(
+                Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+        WordleSessionStore store = new WordleSessionStore(dictionary, 4);
+
+        List<RecordedEvent> events = record(Collections.singleton("ru.yandex.practicum.GuessCheck"), () ->
+                new WordleStoredGame(store, store.create(dictionary.indexOf("сарай")), logger, null).checkGuess("баран"));
+
+        RecordedEvent guess = ofType(events, "ru.yandex.practicum.GuessCheck").get(0);
+        assertEquals("баран", guess.getString("guess"));
+        assertEquals("-+++-", guess.getString("pattern"));
+        assertEquals(5, guess.getInt("remainingAttempts"));
+    }
+
+    @Test
+    @DisplayName("Загрузка словаря пишет число строк и слов, выключенные события не пишутся")
+    void loader_EmitsLoadEventOnlyWhenEnabled() throws IOException {
+        Path words = tempDir.resolve("words.txt");
+        Files.write(words, Arrays.asList("ручка", "тесто", "кот", "ручка"), StandardCharsets.UTF_8);
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(logger);
+
+        List<RecordedEvent> events = record(Collections.singleton("ru.yandex.practicum.DictionaryLoad"),
+                () -> new WordleGame(loader.loadDictionary(words.toString()), logger).checkGuess("ручка"));
+
+        assertEquals(1, events.size());
+        RecordedEvent load = events.get(0);
+        assertEquals("ru.yandex.practicum.DictionaryLoad", load.getEventType().getName());
+        assertEquals(4, load.getInt("linesRead"));
+        assertEquals(2, load.getInt("wordsKept"));
+        assertFalse(load.getBoolean("fromSnapshot"));
+    }
+}
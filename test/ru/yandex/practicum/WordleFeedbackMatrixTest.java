@@ -0,0 +1,84 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleFeedbackMatrixTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream logOutput = new ByteArrayOutputStream();
+    private final PrintWriter logWriter = new PrintWriter(new OutputStreamWriter(logOutput, StandardCharsets.UTF_8), true);
+    private final WordleDictionary dictionary = new WordleDictionary(Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "травы", "оборо", "огоно"
+    ), logWriter);
+
+    @Test
+    @DisplayName("Матрица содержит паттерны для всех пар слов")
+    void build_ContainsAllPairs() {
+        WordleFeedbackMatrix matrix = WordleFeedbackMatrix.build(dictionary);
+
+        assertEquals(dictionary.size(), matrix.getWordCount());
+        assertTrue(matrix.matches(dictionary));
+        for (int g = 0; g < dictionary.size(); g++) {
+            for (int a = 0; a < dictionary.size(); a++) {
+                int expected = WordleFeedback.compute(dictionary.getWordCode(g), dictionary.getWordCode(a));
+                assertEquals(expected, matrix.getPattern(g, a));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Матрица сохраняется и отображается в память")
+    void loadOrBuild_PersistsAndMaps() {
+        Path file = tempDir.resolve("matrix.bin");
+
+        WordleFeedbackMatrix built = WordleFeedbackMatrix.loadOrBuild(dictionary, file, WordleLogger.synchronous(logWriter));
+        assertTrue(Files.exists(file));
+        WordleFeedbackMatrix loaded = WordleFeedbackMatrix.loadOrBuild(dictionary, file, WordleLogger.synchronous(logWriter));
+
+        assertTrue(logOutput.toString(StandardCharsets.UTF_8).contains("Матрица паттернов загружена"));
+        int gonec = dictionary.indexOf("гонец");
+        int geroy = dictionary.indexOf("герой");
+        assertEquals("+^-^-", WordleFeedback.toString(loaded.getPattern(gonec, geroy)));
+        assertEquals(built.getPattern(geroy, gonec), loaded.getPattern(geroy, gonec));
+    }
+
+    @Test
+    @DisplayName("Матрица пересобирается при изменении словаря")
+    void loadOrBuild_RebuildsForChangedDictionary() {
+        Path file = tempDir.resolve("matrix.bin");
+        WordleFeedbackMatrix.loadOrBuild(dictionary, file, WordleLogger.synchronous(logWriter));
+
+        List<String> changedWords = dictionary.getWords();
+        changedWords.set(0, "молот");
+        WordleDictionary changed = new WordleDictionary(changedWords, logWriter);
+        WordleFeedbackMatrix matrix = WordleFeedbackMatrix.loadOrBuild(changed, file, WordleLogger.synchronous(logWriter));
+
+        assertTrue(logOutput.toString(StandardCharsets.UTF_8).contains("Матрица паттернов устарела"));
+        assertTrue(matrix.matches(changed));
+        assertFalse(matrix.matches(dictionary));
+    }
+
+    @Test
+    @DisplayName("Поврежденный файл матрицы пересобирается")
+    void loadOrBuild_CorruptedFile_Rebuilds() throws IOException {
+        Path file = tempDir.resolve("matrix.bin");
+        Files.write(file, new byte[]{1, 2, 3});
+
+        assertThrows(WordleSystemException.class, () -> WordleFeedbackMatrix.map(file));
+        WordleFeedbackMatrix matrix = WordleFeedbackMatrix.loadOrBuild(dictionary, file, WordleLogger.synchronous(logWriter));
+        assertTrue(matrix.matches(dictionary));
+    }
+}
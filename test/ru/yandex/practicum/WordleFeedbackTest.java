@@ -0,0 +1,46 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleFeedbackTest {
+
+    private int compute(String guess, String answer) {
+        return WordleFeedback.compute(WordleAlphabet.encode(guess), WordleAlphabet.encode(answer));
+    }
+
+    @Test
+    @DisplayName("Паттерны совпадают с примерами из ТЗ")
+    void compute_MatchesKnownPatterns() {
+        assertEquals("+++++", WordleFeedback.toString(compute("ручка", "ручка")));
+        assertEquals("^^^-^", WordleFeedback.toString(compute("стоит", "тесто")));
+        assertEquals("-----", WordleFeedback.toString(compute("молот", "ручка")));
+        assertEquals("+^^--", WordleFeedback.toString(compute("тараа", "травы")));
+        assertEquals("+-+-+", WordleFeedback.toString(compute("огоно", "оборо")));
+        assertEquals("+^-^-", WordleFeedback.toString(compute("гонец", "герой")));
+        assertEquals(WordleFeedback.ALL_CORRECT, compute("герой", "герой"));
+    }
+
+    @Test
+    @DisplayName("Разбор и печать паттерна взаимно обратны")
+    void parseAndToString_RoundTrip() {
+        for (int pattern = 0; pattern < WordleFeedback.PATTERN_COUNT; pattern++) {
+            assertEquals(pattern, WordleFeedback.parse(WordleFeedback.toString(pattern)));
+        }
+        assertEquals(WordleFeedback.INVALID_PATTERN, WordleFeedback.parse(null));
+        assertEquals(WordleFeedback.INVALID_PATTERN, WordleFeedback.parse("+++"));
+        assertEquals(WordleFeedback.INVALID_PATTERN, WordleFeedback.parse("++x++"));
+        assertThrows(WordleSystemException.class, () -> WordleFeedback.toString(243));
+    }
+
+    @Test
+    @DisplayName("Разряды паттерна по позициям")
+    void digitAt_ReturnsPositionState() {
+        int pattern = WordleFeedback.parse("+^-^-");
+        assertEquals(WordleFeedback.CORRECT, WordleFeedback.digitAt(pattern, 0));
+        assertEquals(WordleFeedback.PRESENT, WordleFeedback.digitAt(pattern, 1));
+        assertEquals(WordleFeedback.ABSENT, WordleFeedback.digitAt(pattern, 2));
+    }
+}
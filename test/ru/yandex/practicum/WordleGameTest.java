@@ -5,7 +5,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -36,7 +35,7 @@ class WordleGameTest {
     @DisplayName("Проверка правильного слова — все плюсы")
     void checkGuess_CorrectWord_ReturnsAllPluses() {
         WordleGame g = createGameWithFixedAnswer("ручка");
-        String result = g.checkGuess("ручка");
+        String result = WordleFeedback.toString(g.checkGuess("ручка"));
         assertEquals("+++++", result);
         assertTrue(g.isWordGuessed());
     }
@@ -45,7 +44,7 @@ class WordleGameTest {
     @DisplayName("Алгоритм сравнения: правильные позиции")
     void checkGuess_CorrectPositions() {
         WordleGame g = createGameWithFixedAnswer("тесто");
-        String result = g.checkGuess("тесто");
+        String result = WordleFeedback.toString(g.checkGuess("тесто"));
         assertEquals("+++++", result);
     }
 
@@ -53,7 +52,7 @@ class WordleGameTest {
     @DisplayName("Алгоритм сравнения: буквы в других позициях")
     void checkGuess_PresentLetters() {
         WordleGame g = createGameWithFixedAnswer("тесто");
-        String result = g.checkGuess("стоит");
+        String result = WordleFeedback.toString(g.checkGuess("стоит"));
         assertEquals("^^^-^", result);
     }
 
@@ -61,7 +60,7 @@ class WordleGameTest {
     @DisplayName("Алгоритм сравнения: отсутствующие буквы")
     void checkGuess_AbsentLetters() {
         WordleGame g = createGameWithFixedAnswer("ручка");
-        String result = g.checkGuess("молот");
+        String result = WordleFeedback.toString(g.checkGuess("молот"));
         assertEquals("-----", result);
     }
 
@@ -69,7 +68,7 @@ class WordleGameTest {
     @DisplayName("Алгоритм сравнения: повторяющиеся буквы")
     void checkGuess_DuplicateLetters() {
         WordleGame g = createGameWithFixedAnswer("травы");
-        String result = g.checkGuess("тараа");
+        String result = WordleFeedback.toString(g.checkGuess("тараа"));
         assertEquals("+^^--", result);
     }
 
@@ -77,7 +76,7 @@ class WordleGameTest {
     @DisplayName("Алгоритм сравнения: сложный случай с повторениями")
     void checkGuess_ComplexDuplicateCase() {
         WordleGame g = createGameWithFixedAnswer("оборо");
-        String result = g.checkGuess("огоно");
+        String result = WordleFeedback.toString(g.checkGuess("огоно"));
         assertEquals("+-+-+", result);
     }
 
@@ -85,7 +84,7 @@ class WordleGameTest {
     @DisplayName("Пример из ТЗ: герой ← гонец")
     void checkGuess_ExampleFromRequirements() {
         WordleGame g = createGameWithFixedAnswer("герой");
-        String result = g.checkGuess("гонец");
+        String result = WordleFeedback.toString(g.checkGuess("гонец"));
         assertEquals("+^-^-", result);
     }
 
@@ -121,8 +120,9 @@ class WordleGameTest {
     @Test
     @DisplayName("Неправильное слово — isWordGuessed возвращает false")
     void isWordGuessed_WrongWord_ReturnsFalse() {
-        game.checkGuess("ручка");
-        assertFalse(game.isWordGuessed());
+        WordleGame g = createGameWithFixedAnswer("тесто");
+        g.checkGuess("ручка");
+        assertFalse(g.isWordGuessed());
     }
 
     @Test
@@ -190,7 +190,7 @@ class WordleGameTest {
     @Test
     @DisplayName("Нормализация ввода в checkGuess")
     void checkGuess_NormalizesInput() {
-        String result = game.checkGuess(" РУЧКА ");
+        String result = WordleFeedback.toString(game.checkGuess(" РУЧКА "));
         assertNotNull(result);
         assertEquals(5, result.length());
     }
@@ -214,7 +214,17 @@ class WordleGameTest {
     @Test
     @DisplayName("Конструктор с null-логгером бросает исключение")
     void constructor_NullLogger_ThrowsException() {
-        assertThrows(WordleSystemException.class, () -> new WordleGame(dictionary, null));
+        assertThrows(WordleSystemException.class, () -> new WordleGame(dictionary, (PrintWriter) null));
+    }
+
+    @Test
+    @DisplayName("Кандидаты дают те же паттерны, что и загаданное слово")
+    void candidates_MatchFeedbackHistory() {
+        WordleGame g = createGameWithFixedAnswer("ручка");
+        g.checkGuess("салат");
+
+        assertEquals(1, g.getCandidateCount());
+        assertEquals("ручка", g.generateHint());
     }
 
     @Test
@@ -248,18 +258,61 @@ class WordleGameTest {
     }
 
     private WordleGame createGameWithFixedAnswer(String answer) {
-        WordleGame g = new WordleGame(dictionary, testLogWriter);
-        setAnswerViaReflection(g, answer);
-        return g;
-    }
-
-    private void setAnswerViaReflection(WordleGame game, String answer) {
-        try {
-            Field field = WordleGame.class.getDeclaredField("answer");
-            field.setAccessible(true);
-            field.set(game, answer);
-        } catch (Exception e) {
-            fail("Не удалось установить answer через рефлексию: " + e.getMessage());
+        return new WordleGame(dictionary, WordleLogger.synchronous(testLogWriter), answer);
+    }
+
+    @Test
+    @DisplayName("Проверка слова по id словаря")
+    void checkGuessById_UsesDictionaryWord() {
+        WordleGame g = createGameWithFixedAnswer("герой");
+        String result = WordleFeedback.toString(g.checkGuessById(dictionary.indexOf("гонец")));
+        assertEquals("+^-^-", result);
+        assertEquals(WordleAlphabet.encode("герой"), g.getAnswerCode());
+        assertThrows(WordNotFoundInDictionaryException.class, () -> g.checkGuessById(-1));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> g.checkGuessById(dictionary.size()));
+    }
+
+    @Test
+    @DisplayName("Инкрементальное сужение кандидатов совпадает с полной фильтрацией")
+    void candidates_IncrementalNarrowingMatchesFullFilter() {
+        WordleGame incremental = createGameWithFixedAnswer("сарай");
+        assertEquals(dictionary.size(), incremental.getCandidateCount());
+
+        String[] guesses = {"ручка", "баран", "салат"};
+        for (int i = 0; i < guesses.length; i++) {
+            incremental.checkGuess(guesses[i]);
+
+            WordleGame full = createGameWithFixedAnswer("сарай");
+            for (int j = 0; j <= i; j++) {
+                full.checkGuess(guesses[j]);
+            }
+            assertEquals(full.getCandidateCount(), incremental.getCandidateCount());
         }
+        assertTrue(incremental.getCandidateCount() < dictionary.size());
+    }
+
+    @Test
+    @DisplayName("Конструктор с загаданным словом нормализует и проверяет его")
+    void fixedAnswer_IsNormalizedAndValidated() {
+        WordleLogger logger = WordleLogger.synchronous(testLogWriter);
+
+        assertEquals("ручка", new WordleGame(dictionary, logger, " РУЧКА ").getAnswer());
+        assertThrows(WordleSystemException.class, () -> new WordleGame(dictionary, logger, "кошка"));
+        assertThrows(WordleSystemException.class, () -> new WordleGame(dictionary, logger, "кот"));
+    }
+
+    @Test
+    @DisplayName("Повтор буквы в догадке не исключает загаданное слово из кандидатов")
+    void candidates_KeepAnswerAfterRepeatedLetterGuess() {
+        WordleGame g = createGameWithFixedAnswer("молот");
+        g.generateHint();
+
+        assertEquals("^---^", WordleFeedback.toString(g.checkGuess("тесто")));
+
+        assertTrue(g.getCandidateCount() > 0);
+        for (int i = 0; i < 5 && !g.isGameOver(); i++) {
+            g.checkGuess(g.generateHint());
+        }
+        assertTrue(g.isWordGuessed());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleHintCacheTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "канат", "аллея"), logger);
+
+    private WordleHintState stateAfter(String guess, String answer) {
+        int guessCode = WordleAlphabet.encode(guess);
+        return WordleHintState.fromHistory(new int[]{guessCode},
+                new int[]{WordleFeedback.compute(guessCode, WordleAlphabet.encode(answer))}, 1);
+    }
+
+    @Test
+    @DisplayName("Кэш считает попадания и промахи")
+    void get_CountsHitsAndMisses() {
+        WordleHintCache cache = new WordleHintCache(dictionary, WordleGame.HEURISTIC_STRATEGY_NAME, 64);
+        WordleHintState state = stateAfter("ручка", "сарай");
+
+        assertNull(cache.get(state));
+        cache.put(state, new WordleHintCache.Hint(dictionary.indexOf("баран"), 3));
+        WordleHintCache.Hint hint = cache.get(stateAfter("ручка", "сарай"));
+
+        assertNotNull(hint);
+        assertEquals(dictionary.indexOf("баран"), hint.getWordId());
+        assertEquals(3, hint.getCandidateCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("Размер кэша ограничен, старые записи вытесняются")
+    void put_EvictsBeyondCapacity() {
+        WordleHintCache cache = new WordleHintCache(dictionary, WordleGame.HEURISTIC_STRATEGY_NAME, 16);
+        Set<WordleHintState> states = new HashSet<>();
+        for (String guess : dictionary.getWords()) {
+            for (String answer : dictionary.getWords()) {
+                WordleHintState state = stateAfter(guess, answer);
+                states.add(state);
+                cache.put(state, new WordleHintCache.Hint(0, 1));
+            }
+        }
+
+        assertTrue(states.size() > 16);
+        assertTrue(cache.size() <= 16);
+        assertEquals(states.size() - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Кэш не принимают игры с другой стратегией или словарем")
+    void setHintCache_RejectsMismatch() {
+        WordleHintCache cache = new WordleHintCache(dictionary, "entropy", 64);
+        WordleGame game = new WordleGame(dictionary, logger, "сарай");
+
+        assertThrows(WordleSystemException.class, () -> game.setHintCache(cache));
+        assertFalse(cache.isFor(new WordleDictionary(Arrays.asList("сарай"), logger), "entropy"));
+        assertThrows(WordleSystemException.class, () -> cache.put(stateAfter("ручка", "сарай"),
+                new WordleHintCache.Hint(dictionary.size(), 1)));
+        assertThrows(WordleSystemException.class,
+                () -> new WordleHintCache(dictionary, "entropy", 8));
+    }
+
+    @Test
+    @DisplayName("Вторая игра с той же историей берет подсказку из кэша")
+    void sharedCache_HitsAcrossGames() {
+        WordleHintCache cache = new WordleHintCache(dictionary, WordleGame.HEURISTIC_STRATEGY_NAME, 64);
+        WordleGame first = new WordleGame(dictionary, logger, "сарай");
+        WordleGame second = new WordleGame(dictionary, logger, "баран");
+        first.setHintCache(cache);
+        second.setHintCache(cache);
+
+        first.checkGuess("ручка");
+        second.checkGuess("ручка");
+        String firstHint = first.generateHint();
+        String secondHint = second.generateHint();
+
+        assertEquals(firstHint, secondHint);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+}
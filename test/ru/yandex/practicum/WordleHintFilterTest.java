@@ -111,4 +111,74 @@ class WordleHintFilterTest {
         assertTrue(filter.matches("герой"));
         assertFalse(filter.matches("гонец"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Серый повтор подтвержденной буквы не исключает ее из слова")
+    void grayRepeatOfConfirmedLetter_KeepsLetter() throws Exception {
+        update("тесто", "^---^", "молот");
+
+        assertTrue(filter.matches("молот"));
+        assertFalse(filter.getAbsentLetters().contains('т'));
+        assertTrue(filter.getAbsentLetters().contains('е'));
+    }
+
+    @Test
+    @DisplayName("Проверка упакованных кодов совпадает с проверкой строк")
+    void matchesCode_AgreesWithStringMatches() throws Exception {
+        String[] words = {"ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец",
+                "травы", "оборо", "огоно", "тараа", "стоит", "молот", "роман", "ветер", "арбуз", "домой"};
+        String[][] updates = {
+                {"ручка", "-^---", "арбуз"},
+                {"гонец", "+^-^-", "герой"},
+                {"огоно", "+-+-+", "оборо"},
+                {"тараа", "+^^--", "травы"}
+        };
+
+        for (String[] u : updates) {
+            filter.reset();
+            update(u[0], u[1], u[2]);
+            for (String word : words) {
+                assertEquals(filter.matches(word), filter.matches(WordleAlphabet.encode(word)),
+                        "Расхождение для " + word + " после " + u[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Обновление по кодам слов")
+    void updateFromGuess_WithCodes() {
+        filter.updateFromGuess(WordleAlphabet.encode("гонец"), "+^-^-", WordleAlphabet.encode("герой"));
+
+        assertTrue(filter.matches(WordleAlphabet.encode("герой")));
+        assertFalse(filter.matches(WordleAlphabet.encode("гонец")));
+        assertFalse(filter.matches(WordleAlphabet.INVALID_WORD));
+    }
+
+    @Test
+    @DisplayName("Обновление числовым паттерном совпадает со строковым")
+    void updateFromGuess_PatternCodeAgreesWithString() throws Exception {
+        String[] words = {"ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец",
+                "травы", "оборо", "огоно", "тараа", "стоит", "молот", "роман", "ветер", "арбуз", "домой"};
+
+        for (String answer : words) {
+            filter.reset();
+            WordleHintFilter byCode = new WordleHintFilter();
+            for (String guess : words) {
+                int pattern = WordleFeedback.compute(WordleAlphabet.encode(guess), WordleAlphabet.encode(answer));
+                update(guess, WordleFeedback.toString(pattern), answer);
+                byCode.updateFromGuess(WordleAlphabet.encode(guess), pattern);
+
+                String message = guess + " -> " + answer;
+                assertArrayEquals(filter.getCorrectPositions(), byCode.getCorrectPositions(), message);
+                assertEquals(filter.getPresentLetters(), byCode.getPresentLetters(), message);
+                assertEquals(filter.getAbsentLetters(), byCode.getAbsentLetters(), message);
+                assertEquals(filter.getMinLetterCounts(), byCode.getMinLetterCounts(), message);
+            }
+        }
+
+        WordleHintFilter ignored = new WordleHintFilter();
+        ignored.updateFromGuess(WordleAlphabet.encode("ручка"), WordleFeedback.INVALID_PATTERN);
+        ignored.updateFromGuess(WordleAlphabet.INVALID_WORD, 0);
+        assertTrue(ignored.getAbsentLetters().isEmpty());
+    }
+}
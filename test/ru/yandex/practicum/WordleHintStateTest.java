@@ -0,0 +1,91 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleHintStateTest {
+
+    private static final String[] WORDS = {
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "канат", "аллея",
+            "шалаш", "кошка", "нанос", "сосна", "масса", "лотос", "колос", "сорок"
+    };
+
+    private static int code(String word) {
+        return WordleAlphabet.encode(word);
+    }
+
+    private static boolean consistent(int[] guesses, int[] patterns, int length, int wordCode) {
+        for (int turn = 0; turn < length; turn++) {
+            if (WordleFeedback.compute(guesses[turn], wordCode) != patterns[turn]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    @DisplayName("Состояние пропускает ровно слова, согласные со всей историей")
+    void matches_AgreesWithHistory() {
+        int count = WORDS.length;
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = code(WORDS[i]);
+        }
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int round = 0; round < 500; round++) {
+            int answer = codes[random.nextInt(count)];
+            int length = 1 + random.nextInt(3);
+            int[] guesses = new int[length];
+            int[] patterns = new int[length];
+            for (int turn = 0; turn < length; turn++) {
+                guesses[turn] = codes[random.nextInt(count)];
+                patterns[turn] = WordleFeedback.compute(guesses[turn], answer);
+            }
+
+            WordleHintState state = WordleHintState.fromHistory(guesses, patterns, length);
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(consistent(guesses, patterns, length, codes[i]), state.matches(codes[i]),
+                        "Слово " + WordleAlphabet.decode(codes[i]) + " после " + length + " ходов");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Разные истории с одинаковым знанием дают равные состояния")
+    void fromHistory_CanonicalForEqualKnowledge() {
+        int answer = code("сарай");
+        int[] direct = {code("сарай")};
+        int[] viaOthers = {code("баран"), code("сарай")};
+
+        WordleHintState first = WordleHintState.fromHistory(direct,
+                new int[]{WordleFeedback.compute(direct[0], answer)}, 1);
+        WordleHintState second = WordleHintState.fromHistory(viaOthers,
+                new int[]{WordleFeedback.compute(viaOthers[0], answer), WordleFeedback.compute(viaOthers[1], answer)}, 2);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Порядок догадок не влияет на состояние")
+    void fromHistory_IgnoresOrder() {
+        int answer = code("герой");
+        int[] forward = {code("ручка"), code("тесто")};
+        int[] backward = {code("тесто"), code("ручка")};
+
+        WordleHintState first = WordleHintState.fromHistory(forward, new int[]{
+                WordleFeedback.compute(forward[0], answer), WordleFeedback.compute(forward[1], answer)}, 2);
+        WordleHintState second = WordleHintState.fromHistory(backward, new int[]{
+                WordleFeedback.compute(backward[0], answer), WordleFeedback.compute(backward[1], answer)}, 2);
+
+        assertEquals(first, second);
+        assertNotEquals(first, WordleHintState.fromHistory(forward, new int[]{
+                WordleFeedback.compute(forward[0], answer)}, 1));
+    }
+}
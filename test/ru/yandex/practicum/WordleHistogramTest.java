@@ -0,0 +1,64 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleHistogramTest {
+
+    @Test
+    @DisplayName("Верхняя граница корзины не меньше значения и не дальше 12.5%")
+    void bucketBounds_CoverValues() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 100, 1_000, 123_456, 1L << 40, Long.MAX_VALUE};
+        for (long value : values) {
+            long upper = WordleHistogram.bucketUpperBound(WordleHistogram.bucketIndex(value));
+            assertTrue(upper >= value, "value=" + value);
+            assertTrue(upper - value <= value / 8, "value=" + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Перцентили, среднее и максимум по равномерным значениям")
+    void snapshot_ReportsPercentiles() {
+        WordleHistogram histogram = new WordleHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        WordleHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMean(), 1e-9);
+        assertEquals(1000, snapshot.getMax());
+        assertTrue(snapshot.getP50() >= 500 && snapshot.getP50() <= 500 * 9 / 8);
+        assertTrue(snapshot.getP99() >= 990 && snapshot.getP99() <= 1000);
+        assertEquals(0, new WordleHistogram().snapshot().getP99());
+    }
+
+    @Test
+    @DisplayName("Параллельная запись не теряет значения")
+    void record_ConcurrentWritersLoseNothing() throws InterruptedException {
+        WordleHistogram histogram = new WordleHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.snapshot().getCount());
+        assertEquals(9_999, histogram.snapshot().getMax());
+    }
+}
@@ -5,7 +5,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -39,12 +38,12 @@ class WordleIntegrationTest {
             assertEquals(6, game.getRemainingAttempts());
             assertEquals(0, game.getUsedAttempts());
 
-            String result1 = game.checkGuess("ручка");
+            String result1 = WordleFeedback.toString(game.checkGuess("ручка"));
             assertNotNull(result1);
             assertEquals(5, game.getRemainingAttempts());
             assertEquals(1, game.getUsedAttempts());
 
-            String result2 = game.checkGuess("тесто");
+            String result2 = WordleFeedback.toString(game.checkGuess("тесто"));
             assertNotNull(result2);
             assertEquals(4, game.getRemainingAttempts());
             assertEquals(2, game.getUsedAttempts());
@@ -79,10 +78,9 @@ class WordleIntegrationTest {
         try (PrintWriter logWriter = new PrintWriter(new OutputStreamWriter(new FileOutputStream(logFile), "UTF-8"))) {
             WordleDictionaryLoader loader = new WordleDictionaryLoader(logWriter);
             WordleDictionary dictionary = loader.loadDictionary(dictFile.getAbsolutePath());
-            WordleGame game = new WordleGame(dictionary, logWriter);
-            setFixedAnswer(game, "ручка");
+            WordleGame game = new WordleGame(dictionary, WordleLogger.synchronous(logWriter), "ручка");
 
-            String result = game.checkGuess("ручка");
+            String result = WordleFeedback.toString(game.checkGuess("ручка"));
             assertEquals("+++++", result);
             assertTrue(game.isWordGuessed());
             assertTrue(game.isGameOver());
@@ -144,11 +142,11 @@ class WordleIntegrationTest {
             loader.loadDictionary(dictFile.getAbsolutePath());
 
             WordleGame game1 = createGameWithWordsAndAnswer(List.of("герой", "гонец"), "герой", logWriter);
-            String result1 = game1.checkGuess("гонец");
+            String result1 = WordleFeedback.toString(game1.checkGuess("гонец"));
             assertEquals("+^-^-", result1);
 
             WordleGame game2 = createGameWithWordsAndAnswer(List.of("травы", "тараа"), "травы", logWriter);
-            String result2 = game2.checkGuess("тараа");
+            String result2 = WordleFeedback.toString(game2.checkGuess("тараа"));
             assertEquals("+^^--", result2);
         }
 
@@ -206,10 +204,10 @@ class WordleIntegrationTest {
             assertTrue(dictionary.contains("ершик"));
             assertTrue(dictionary.contains("аббат"));
 
-            String result1 = game.checkGuess(" ЧЁЛКА ");
+            String result1 = WordleFeedback.toString(game.checkGuess(" ЧЁЛКА "));
             assertNotNull(result1);
 
-            String result2 = game.checkGuess("ЁРШИК");
+            String result2 = WordleFeedback.toString(game.checkGuess("ЁРШИК"));
             assertNotNull(result2);
         }
 
@@ -219,18 +217,6 @@ class WordleIntegrationTest {
 
     private WordleGame createGameWithWordsAndAnswer(List<String> words, String answer, PrintWriter logWriter) {
         WordleDictionary dict = new WordleDictionary(words, logWriter);
-        WordleGame game = new WordleGame(dict, logWriter);
-        setFixedAnswer(game, answer);
-        return game;
-    }
-
-    private void setFixedAnswer(WordleGame game, String answer) {
-        try {
-            Field field = WordleGame.class.getDeclaredField("answer");
-            field.setAccessible(true);
-            field.set(game, answer);
-        } catch (Exception e) {
-            fail("Не удалось установить answer через рефлексию: " + e.getMessage());
-        }
+        return new WordleGame(dict, WordleLogger.synchronous(logWriter), answer);
     }
-}
\ No newline at end of file
+}
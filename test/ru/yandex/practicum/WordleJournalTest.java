@@ -0,0 +1,293 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "роман"), logger);
+
+    private List<WordleJournal.Event> replay() {
+        List<WordleJournal.Event> events = new ArrayList<>();
+        WordleJournal.replay(tempDir, events::add);
+        return events;
+    }
+
+    @Test
+    @DisplayName("Записанные события читаются обратно в том же порядке")
+    void append_Replay_RoundTrip() {
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            assertEquals(1, journal.appendCreated(123));
+            long last = journal.append(WordleJournal.EventType.GUESS, 1, 1, 456, 242);
+            journal.sync(last);
+            assertEquals(2, journal.getDurableCount());
+        }
+
+        List<WordleJournal.Event> events = replay();
+        assertEquals(2, events.size());
+        assertEquals(WordleJournal.EventType.CREATED, events.get(0).getType());
+        assertEquals(123, events.get(0).getWordCode());
+        WordleJournal.Event guess = events.get(1);
+        assertEquals(WordleJournal.EventType.GUESS, guess.getType());
+        assertEquals(1, guess.getGameId());
+        assertEquals(2, guess.getSequence());
+        assertEquals(1, events.get(0).getGameId());
+        assertEquals(1, guess.getAttempt());
+        assertEquals(456, guess.getWordCode());
+        assertEquals(242, guess.getValue());
+        assertTrue(guess.getTimestamp() > 0);
+    }
+
+    @Test
+    @DisplayName("Сегменты закрываются по размеру, записи не разрезаются")
+    void append_SmallSegments_Rolls() throws IOException {
+        // Заголовок 16 байт и три записи по 32
+        try (WordleJournal journal = new WordleJournal(tempDir, 16 + 3 * WordleJournal.RECORD_SIZE, 4)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(WordleJournal.EventType.HINT, i, 0, i, 0);
+            }
+        }
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(4, files.filter(file -> file.toString().endsWith(".wjl")).count());
+        }
+        List<WordleJournal.Event> events = replay();
+        assertEquals(10, events.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, events.get(i).getGameId());
+            assertEquals(i + 1, events.get(i).getSequence());
+        }
+    }
+
+    @Test
+    @DisplayName("Оборванный хвост отрезается, а запись продолжается после последней целой записи")
+    void open_TornTail_Truncated() throws IOException {
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            journal.appendCreated(1);
+            journal.append(WordleJournal.EventType.GUESS, 1, 1, 2, 3);
+        }
+        Path segment;
+        try (var files = Files.list(tempDir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, StandardOpenOption.APPEND);
+
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            assertEquals(2, journal.getDurableCount());
+            assertEquals(3, journal.append(WordleJournal.EventType.FINISHED, 1, 1, 1, 1));
+        }
+
+        List<WordleJournal.Event> events = replay();
+        assertEquals(3, events.size());
+        assertEquals(WordleJournal.EventType.FINISHED, events.get(2).getType());
+    }
+
+    @Test
+    @DisplayName("Параллельные писатели: все события на диске после sync")
+    void append_Concurrent_AllDurable() throws InterruptedException {
+        try (WordleJournal journal = new WordleJournal(tempDir, 4096, 64)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int session = t;
+                threads.add(Thread.ofVirtual().start(() -> {
+                    long last = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        last = journal.append(WordleJournal.EventType.GUESS, session, i, i, 0);
+                    }
+                    journal.sync(last);
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(4000, journal.getDurableCount());
+        }
+
+        Map<Long, Integer> nextAttempt = new HashMap<>();
+        for (WordleJournal.Event event : replay()) {
+            int expected = nextAttempt.getOrDefault(event.getGameId(), 0);
+            assertEquals(expected, event.getAttempt());
+            nextAttempt.put(event.getGameId(), expected + 1);
+        }
+        assertEquals(Map.of(0L, 1000, 1L, 1000, 2L, 1000, 3L, 1000), nextAttempt);
+    }
+
+    @Test
+    @DisplayName("Партия восстанавливается по журналу в то же состояние")
+    void restoreGame_MatchesPlayedGame() {
+        WordleGame played = new WordleGame(dictionary, logger, "салат");
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            played.setJournal(journal);
+            played.checkGuess("баран");
+            played.generateHint();
+            played.checkGuess("сарай");
+        }
+
+        WordleGame restored = WordleJournal.restoreGame(tempDir, played.getJournalGameId(), dictionary, logger);
+
+        assertEquals(played.getAnswer(), restored.getAnswer());
+        assertEquals(played.getRemainingAttempts(), restored.getRemainingAttempts());
+        assertEquals(played.getPreviousGuesses(), restored.getPreviousGuesses());
+        assertEquals(played.getCandidateCount(), restored.getCandidateCount());
+        assertEquals(List.of(WordleJournal.EventType.CREATED, WordleJournal.EventType.GUESS,
+                        WordleJournal.EventType.HINT, WordleJournal.EventType.GUESS),
+                replay().stream().map(WordleJournal.Event::getType).toList());
+        assertThrows(WordleGameException.class, () -> WordleJournal.restoreGame(tempDir, 43, dictionary, logger));
+    }
+
+    @Test
+    @DisplayName("Партии разных запусков получают разные id и не смешиваются")
+    void restoreGame_AcrossRestarts_KeepsGamesApart() {
+        WordleGame first = new WordleGame(dictionary, logger, "салат");
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            first.setJournal(journal);
+            first.checkGuess("баран");
+        }
+        WordleGame second = new WordleGame(dictionary, logger, "герой");
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            second.setJournal(journal);
+            second.checkGuess("ручка");
+            second.checkGuess("тесто");
+        }
+
+        assertNotEquals(first.getJournalGameId(), second.getJournalGameId());
+        WordleGame restoredFirst = WordleJournal.restoreGame(tempDir, first.getJournalGameId(), dictionary, logger);
+        WordleGame restoredSecond = WordleJournal.restoreGame(tempDir, second.getJournalGameId(), dictionary, logger);
+        assertEquals("салат", restoredFirst.getAnswer());
+        assertEquals(Set.of("баран"), restoredFirst.getPreviousGuesses());
+        assertEquals("герой", restoredSecond.getAnswer());
+        assertEquals(Set.of("ручка", "тесто"), restoredSecond.getPreviousGuesses());
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            assertThrows(WordleSystemException.class, () -> journal.append(WordleJournal.EventType.CREATED, 1, 0, 0, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Завершение партии записывается с результатом")
+    void checkGuess_GameWon_RecordsFinished() {
+        WordleGame game = new WordleGame(dictionary, logger, "герой");
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            game.setJournal(journal);
+            game.checkGuess("герой");
+        }
+
+        WordleJournal.Event finished = replay().get(2);
+        assertEquals(WordleJournal.EventType.FINISHED, finished.getType());
+        assertEquals(1, finished.getValue());
+        assertEquals(WordleAlphabet.encode("герой"), finished.getWordCode());
+    }
+
+    @Test
+    @DisplayName("Второй журнал на тот же каталог не открывается, пока первый не закрыт")
+    void open_SameDirectoryTwice_Rejected() {
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            journal.appendCreated(1);
+            assertThrows(WordleSystemException.class, () -> new WordleJournal(tempDir));
+            journal.flush();
+        }
+        try (WordleJournal reopened = new WordleJournal(tempDir)) {
+            assertEquals(1, reopened.getDurableCount());
+        }
+    }
+
+    @Test
+    @DisplayName("После закрытия запись отклоняется")
+    void append_AfterClose_Throws() {
+        WordleJournal journal = new WordleJournal(tempDir);
+        journal.close();
+        assertThrows(WordleSystemException.class, () -> journal.append(WordleJournal.EventType.HINT, 1, 0, 0, 0));
+        assertThrows(WordleSystemException.class, () -> journal.append(WordleJournal.EventType.HINT, 1, 0, 0, 256));
+    }
+
+    @Test
+    @DisplayName("Игры сервера пишутся в журнал под id партии, подсказки - тоже")
+    void registry_WithJournal_RecordsStoredGames() {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 4);
+        long id;
+        long gameId;
+        String answer;
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            registry.setJournal(journal);
+            WordleSession session = registry.create();
+            id = session.getId();
+            gameId = session.getGame().getJournalId();
+            answer = session.getGame().getAnswer();
+            session.getGame().checkGuess(answer.equals("ручка") ? "тесто" : "ручка");
+            session.getGame().generateHint();
+        }
+
+        assertEquals(List.of(WordleJournal.EventType.CREATED, WordleJournal.EventType.GUESS, WordleJournal.EventType.HINT),
+                replay().stream().map(WordleJournal.Event::getType).toList());
+        assertTrue(replay().stream().allMatch(event -> event.getGameId() == gameId));
+        WordleGame restored = WordleJournal.restoreGame(tempDir, gameId, dictionary, logger);
+        assertEquals(answer, restored.getAnswer());
+        assertEquals(registry.get(id).getGame().getPreviousGuesses(), restored.getPreviousGuesses());
+    }
+
+    @Test
+    @DisplayName("Неудачная запись догадки не тратит попытку")
+    void checkGuess_AppendFails_AttemptNotCounted() {
+        WordleGame game = new WordleGame(dictionary, logger, "герой");
+        WordleJournal journal = new WordleJournal(tempDir);
+        game.setJournal(journal);
+        journal.close();
+
+        assertThrows(WordleSystemException.class, () -> game.checkGuess("ручка"));
+        assertEquals(0, game.getUsedAttempts());
+        assertTrue(game.getPreviousGuesses().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Неудачная запись догадки сервера не тратит попытку сессии")
+    void storedGame_AppendFails_AttemptNotCounted() {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 4);
+        WordleJournal journal = new WordleJournal(tempDir);
+        registry.setJournal(journal);
+        WordleStoredGame game = registry.create().getGame();
+        journal.close();
+
+        String guess = game.getAnswer().equals("ручка") ? "тесто" : "ручка";
+        assertThrows(WordleSystemException.class, () -> game.checkGuess(guess));
+        assertEquals(0, game.getUsedAttempts());
+        assertEquals(WordleSessionStore.MAX_ATTEMPTS, game.getRemainingAttempts());
+    }
+
+    @Test
+    @DisplayName("Битый сегмент не оставляет каталог заблокированным")
+    void open_CorruptSegment_ReleasesLock() throws IOException {
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            journal.appendCreated(1);
+        }
+        Path segment;
+        try (var files = Files.list(tempDir)) {
+            segment = files.filter(file -> file.toString().endsWith(".wjl")).findFirst().orElseThrow();
+        }
+        byte[] original = Files.readAllBytes(segment);
+        byte[] corrupted = original.clone();
+        corrupted[0] ^= 0x7F;
+        Files.write(segment, corrupted);
+        assertThrows(WordleSystemException.class, () -> new WordleJournal(tempDir));
+
+        Path badName = tempDir.resolve("journal-xyz.wjl");
+        Files.write(segment, original);
+        Files.write(badName, original);
+        assertThrows(WordleSystemException.class, () -> new WordleJournal(tempDir));
+
+        Files.delete(badName);
+        try (WordleJournal reopened = new WordleJournal(tempDir)) {
+            assertEquals(1, reopened.getDurableCount());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleLetterIndexTest {
+
+    private static final List<String> WORDS = Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "травы",
+            "оборо", "огоно", "тараа", "стоит", "молот", "роман", "ветер", "арбуз",
+            "домой", "абвгд", "ааааб", "кокос", "сосна", "насос", "пресс", "ссора"
+    );
+
+    private final PrintWriter logWriter = new PrintWriter(new OutputStreamWriter(
+            new ByteArrayOutputStream(), StandardCharsets.UTF_8), true);
+
+    @Test
+    @DisplayName("Индексы по позициям и количеству букв")
+    void index_PositionAndCountBitsets() {
+        int[] codes = WORDS.stream().mapToInt(WordleAlphabet::encode).toArray();
+        WordleLetterIndex index = new WordleLetterIndex(codes);
+
+        int s = WordleAlphabet.letterCode('с');
+        long[] twoS = index.letterCountAtLeast(s, 2);
+        Set<String> expected = Set.of("сосна", "насос", "пресс", "ссора");
+        for (int id = 0; id < WORDS.size(); id++) {
+            assertEquals(expected.contains(WORDS.get(id)), (twoS[id >>> 6] & (1L << id)) != 0, WORDS.get(id));
+        }
+        assertEquals(1, WordleLetterIndex.cardinality(index.letterCountAtLeast(WordleAlphabet.letterCode('а'), 4)));
+        assertEquals(WORDS.size(), WordleLetterIndex.cardinality(index.newAllWords()));
+        assertEquals(0, WordleLetterIndex.cardinality(index.letterCountAtLeast(s, 6)));
+
+        long[] firstR = index.positionLetter(0, WordleAlphabet.letterCode('р'));
+        assertEquals(WORDS.indexOf("ручка"), WordleLetterIndex.nextSetBit(firstR, 0));
+        assertEquals(WORDS.indexOf("роман"), WordleLetterIndex.nextSetBit(firstR, 1));
+        assertEquals(-1, WordleLetterIndex.nextSetBit(firstR, WORDS.indexOf("роман") + 1));
+    }
+
+    @Test
+    @DisplayName("Скомпилированный фильтр совпадает с построчной проверкой")
+    void compiledFilter_AgreesWithMatches() {
+        WordleDictionary dictionary = new WordleDictionary(WORDS, logWriter);
+        String[][][] games = {
+                {{"ручка", "-----", "домой"}, {"арбуз", "-----", "домой"}},
+                {{"гонец", "+^-^-", "герой"}},
+                {{"огоно", "+-+-+", "оборо"}},
+                {{"тараа", "+^^--", "травы"}},
+                {{"сосна", "+^^-+", "ссора"}, {"насос", "-^^^^", "ссора"}, {"пресс", "-^-^^", "ссора"}}
+        };
+
+        for (String[][] game : games) {
+            WordleHintFilter filter = new WordleHintFilter();
+            for (String[] guess : game) {
+                filter.updateFromGuess(guess[0], guess[1], guess[2]);
+
+                List<String> expected = dictionary.getWords().stream()
+                        .filter(filter::matches)
+                        .collect(Collectors.toList());
+                assertEquals(expected, dictionary.getFilteredWords(filter), filter.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleLoggerTest {
+
+    private static List<String> lines(StringWriter output) {
+        List<String> result = new ArrayList<>();
+        for (String line : output.toString().split(System.lineSeparator())) {
+            if (!line.isEmpty()) {
+                result.add(line);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Синхронный логгер пишет сразу и фильтрует по уровню")
+    void synchronous_FiltersByLevel() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), true);
+        WordleLogger logger = WordleLogger.synchronous(writer, WordleLogLevel.INFO);
+
+        logger.debug("отладка");
+        logger.info("информация");
+        logger.error("ошибка");
+
+        String log = output.toString(StandardCharsets.UTF_8);
+        assertFalse(log.contains("отладка"));
+        assertTrue(log.contains("информация"));
+        assertTrue(log.contains("ошибка"));
+        assertThrows(WordleSystemException.class, () -> WordleLogger.synchronous(null));
+    }
+
+    @Test
+    @DisplayName("Поставщик сообщения не вызывается для отключенного уровня")
+    void supplier_NotEvaluatedWhenDisabled() {
+        WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()), WordleLogLevel.WARN);
+        AtomicBoolean evaluated = new AtomicBoolean();
+
+        logger.debug(() -> {
+            evaluated.set(true);
+            return "дорогое сообщение";
+        });
+
+        assertFalse(evaluated.get());
+    }
+
+    @Test
+    @DisplayName("Асинхронный логгер сохраняет порядок сообщений всех потоков")
+    void async_WritesAllMessagesAfterFlush() throws InterruptedException {
+        StringWriter output = new StringWriter();
+        WordleLogger logger = WordleLogger.async(output, WordleLogLevel.DEBUG, 64, WordleLogger.OverflowPolicy.BLOCK);
+
+        int threadCount = 4;
+        int perThread = 500;
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    logger.info(thread + ":" + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.flush();
+
+        List<String> lines = lines(output);
+        assertEquals(threadCount * perThread, lines.size());
+        int[] next = new int[threadCount];
+        for (String line : lines) {
+            String[] parts = line.split(":");
+            int thread = Integer.parseInt(parts[0]);
+            assertEquals(next[thread]++, Integer.parseInt(parts[1]));
+        }
+        assertEquals(0, logger.getDroppedCount());
+        logger.close();
+    }
+
+    @Test
+    @DisplayName("При переполнении в режиме DROP сообщения отбрасываются и считаются")
+    void async_DropPolicy_CountsDroppedMessages() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter output = new StringWriter();
+        Writer slowSink = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                output.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        WordleLogger logger = WordleLogger.async(slowSink, WordleLogLevel.DEBUG, 4, WordleLogger.OverflowPolicy.DROP);
+
+        logger.info("первое");
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            logger.info("сообщение " + i);
+        }
+
+        assertEquals(3, logger.getDroppedCount());
+        release.countDown();
+        logger.close();
+        assertEquals(5, lines(output).size());
+    }
+
+    @Test
+    @DisplayName("Закрытие дописывает буфер и закрывает приемник")
+    void close_DrainsAndClosesSink() {
+        AtomicBoolean sinkClosed = new AtomicBoolean();
+        StringWriter output = new StringWriter() {
+            @Override
+            public void close() throws IOException {
+                sinkClosed.set(true);
+                super.close();
+            }
+        };
+        WordleLogger logger = WordleLogger.async(output, WordleLogLevel.INFO, 16, WordleLogger.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            logger.info("строка " + i);
+        }
+        logger.close();
+
+        assertEquals(100, lines(output).size());
+        assertTrue(sinkClosed.get());
+    }
+
+    @Test
+    @DisplayName("Сообщения после закрытия не пишутся и считаются потерянными")
+    void publishAfterClose_CountedAsDropped() {
+        StringWriter output = new StringWriter();
+        WordleLogger logger = WordleLogger.async(output, WordleLogLevel.INFO, 16, WordleLogger.OverflowPolicy.BLOCK);
+        logger.info("до закрытия");
+        logger.close();
+
+        logger.info("после закрытия");
+        logger.warn("после закрытия");
+
+        assertEquals(1, lines(output).size());
+        assertEquals(2, logger.getDroppedCount());
+    }
+}
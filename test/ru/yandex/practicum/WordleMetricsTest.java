@@ -0,0 +1,93 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "травы"), logger);
+
+    @Test
+    @DisplayName("Догадки и подсказки попадают в гистограммы и счетчики")
+    void game_RecordsMetrics() {
+        WordleMetrics.Snapshot before = WordleMetrics.global().snapshot();
+
+        WordleGame game = new WordleGame(dictionary, logger, "сарай");
+        game.generateHint();
+        game.checkGuess("ручка");
+        game.generateHint();
+
+        WordleMetrics.Snapshot after = WordleMetrics.global().snapshot();
+        assertEquals(1, after.getCheckGuessNanos().getCount() - before.getCheckGuessNanos().getCount());
+        assertEquals(2, after.getGenerateHintNanos().getCount() - before.getGenerateHintNanos().getCount());
+        assertEquals(1, after.getHintCacheRebuildCount() - before.getHintCacheRebuildCount());
+        assertEquals(1, after.getCandidateNarrowingCount() - before.getCandidateNarrowingCount());
+        assertTrue(after.getFilteredWordsNanos().getCount() > before.getFilteredWordsNanos().getCount());
+        assertEquals(1, after.getCandidatesAtAttempt(0).getCount() - before.getCandidatesAtAttempt(0).getCount());
+        assertEquals(1, after.getCandidatesAtAttempt(1).getCount() - before.getCandidatesAtAttempt(1).getCount());
+    }
+
+    @Test
+    @DisplayName("Загрузка словаря измеряется один раз и со снимком, и без")
+    void loader_RecordsLoadOnce() throws IOException {
+        Path words = tempDir.resolve("words.txt");
+        Files.write(words, Arrays.asList("ручка", "тесто"), StandardCharsets.UTF_8);
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(logger);
+        long before = WordleMetrics.global().snapshot().getLoadDictionaryNanos().getCount();
+
+        loader.loadDictionary(words.toString());
+        loader.loadDictionary(words.toString(), tempDir.resolve("words.snapshot"));
+
+        assertEquals(2, WordleMetrics.global().snapshot().getLoadDictionaryNanos().getCount() - before);
+    }
+
+    @Test
+    @DisplayName("Метрики читаются через JMX")
+    void mbean_ExposesAttributes() throws Exception {
+        WordleMetrics.global().registerMBean();
+        WordleMetrics.global().registerMBean();
+        new WordleGame(dictionary, logger, "тесто").checkGuess("тесто");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(WordleMetrics.OBJECT_NAME);
+        CompositeData checkGuess = (CompositeData) server.getAttribute(name, "CheckGuessNanos");
+        CompositeData[] byAttempt = (CompositeData[]) server.getAttribute(name, "CandidatesByAttempt");
+
+        assertTrue((Long) checkGuess.get("count") > 0);
+        assertTrue(checkGuess.containsKey("p99"));
+        assertEquals(6, byAttempt.length);
+        assertNotNull(server.getAttribute(name, "HintCacheRebuildCount"));
+    }
+
+    @Test
+    @DisplayName("Номер попытки вне диапазона не ломает запись и отклоняется при чтении")
+    void candidates_OutOfRangeAttempt() {
+        WordleMetrics metrics = new WordleMetrics();
+        metrics.recordCandidates(6, 10);
+        metrics.recordCandidates(-1, 10);
+        metrics.recordCandidates(2, 10);
+
+        WordleMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getCandidatesAtAttempt(2).getCount());
+        assertEquals(10, snapshot.getCandidatesAtAttempt(2).getMax());
+        assertThrows(WordleSystemException.class, () -> snapshot.getCandidatesAtAttempt(6));
+    }
+}
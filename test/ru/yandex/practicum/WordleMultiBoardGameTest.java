@@ -0,0 +1,93 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleMultiBoardGameTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "канат", "аллея"), logger);
+    private final WordleMultiBoardHintEngine engine =
+            new WordleMultiBoardHintEngine(dictionary, null, ForkJoinPool.commonPool());
+
+    @Test
+    @DisplayName("Одна догадка дает паттерн на каждой доске, решенные доски пропускаются")
+    void checkGuess_ReturnsPatternPerBoard() {
+        WordleMultiBoardGame game = new WordleMultiBoardGame(engine, logger, "сарай", "тесто", "герой", "сарай");
+        assertEquals(9, game.getRemainingAttempts());
+
+        int[] first = game.checkGuess("сарай");
+        assertEquals("+++++", WordleFeedback.toString(first[0]));
+        assertEquals("^----", WordleFeedback.toString(first[1]));
+        assertEquals("--+-+", WordleFeedback.toString(first[2]));
+        assertEquals(WordleFeedback.ALL_CORRECT, first[3]);
+        assertEquals(2, game.getSolvedBoardCount());
+
+        int[] second = game.checkGuess("тесто");
+        assertEquals(WordleFeedback.INVALID_PATTERN, second[0]);
+        assertEquals(WordleFeedback.ALL_CORRECT, second[1]);
+        assertFalse(game.isWordGuessed());
+
+        game.checkGuess("герой");
+        assertTrue(game.isWordGuessed());
+        assertTrue(game.isGameOver());
+        assertEquals(3, game.getUsedAttempts());
+        assertThrows(WordleGameException.class, () -> game.checkGuess("ручка"));
+    }
+
+    @Test
+    @DisplayName("Кандидаты доски - ровно слова, дающие те же паттерны")
+    void checkGuess_NarrowsCandidatesExactly() {
+        WordleMultiBoardGame game = new WordleMultiBoardGame(engine, logger, "баран", "канат");
+        int[] guesses = {dictionary.indexOf("ручка"), dictionary.indexOf("салат")};
+        int[][] patterns = new int[guesses.length][];
+        for (int turn = 0; turn < guesses.length; turn++) {
+            patterns[turn] = game.checkGuessById(guesses[turn]);
+        }
+
+        for (int board = 0; board < game.getBoardCount(); board++) {
+            int expected = 0;
+            for (int id = 0; id < dictionary.size(); id++) {
+                boolean consistent = true;
+                for (int turn = 0; turn < guesses.length; turn++) {
+                    consistent &= WordleFeedback.compute(dictionary.getWordCode(guesses[turn]),
+                            dictionary.getWordCode(id)) == patterns[turn][board];
+                }
+                if (consistent) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, game.getCandidateCount(board), "Доска " + board);
+        }
+    }
+
+    @Test
+    @DisplayName("Игра по подсказкам решает все доски")
+    void generateHint_SolvesAllBoards() {
+        WordleMultiBoardGame game = new WordleMultiBoardGame(engine, logger, 8);
+        while (!game.isGameOver()) {
+            game.checkGuess(game.generateHint());
+        }
+
+        assertTrue(game.isWordGuessed());
+        assertEquals(8, game.getSolvedBoardCount());
+    }
+
+    @Test
+    @DisplayName("Неверные параметры игры отклоняются")
+    void constructor_RejectsInvalidBoards() {
+        assertThrows(WordleSystemException.class, () -> new WordleMultiBoardGame(engine, logger, 0));
+        assertThrows(WordleSystemException.class,
+                () -> new WordleMultiBoardGame(engine, logger, WordleMultiBoardGame.MAX_BOARDS + 1));
+        assertThrows(WordleSystemException.class, () -> new WordleMultiBoardGame(engine, logger, "кошка"));
+        assertThrows(WordNotFoundInDictionaryException.class,
+                () -> new WordleMultiBoardGame(engine, logger, 4).checkGuess("ааааа"));
+    }
+}
@@ -0,0 +1,75 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleMultiBoardHintEngineTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "канат", "аллея"), logger);
+
+    private int id(String word) {
+        return dictionary.indexOf(word);
+    }
+
+    @Test
+    @DisplayName("Доска с единственным кандидатом решается первой")
+    void selectHint_PrefersSolvedCandidate() {
+        WordleMultiBoardHintEngine engine = new WordleMultiBoardHintEngine(dictionary, null, ForkJoinPool.commonPool());
+        int[][] candidates = {{id("баран"), id("сарай")}, {id("герой")}, null};
+        int[] counts = {2, 1, dictionary.size()};
+
+        assertEquals(id("герой"), engine.selectHint(candidates, counts, new boolean[3]));
+        assertNotEquals(id("герой"), engine.selectHint(candidates, counts, new boolean[]{false, true, false}));
+        assertThrows(WordleGameException.class,
+                () -> engine.selectHint(candidates, counts, new boolean[]{true, true, true}));
+    }
+
+    @Test
+    @DisplayName("Оценка по всем доскам выбирает слово, разделяющее кандидатов")
+    void selectHint_SplitsCandidatesAcrossBoards() {
+        WordleMultiBoardHintEngine engine = new WordleMultiBoardHintEngine(dictionary, null, ForkJoinPool.commonPool());
+        int[][] candidates = {{id("баран"), id("сарай"), id("салат")}, {id("баран"), id("канат")}};
+        int[] counts = {3, 2};
+
+        int hint = engine.selectHint(candidates, counts, new boolean[2]);
+
+        // Догадка разводит всех кандидатов обеих досок по разным паттернам
+        for (int[] board : candidates) {
+            Set<Integer> patterns = new HashSet<>();
+            for (int candidate : board) {
+                patterns.add(WordleFeedback.compute(dictionary.getWordCode(hint), dictionary.getWordCode(candidate)));
+            }
+            assertEquals(board.length, patterns.size(), dictionary.getWord(hint));
+        }
+    }
+
+    @Test
+    @DisplayName("С матрицей паттернов подсказки те же, первый ход общий")
+    void selectHint_MatrixAgreesAndOpeningIsShared() {
+        WordleMultiBoardHintEngine computed = new WordleMultiBoardHintEngine(dictionary, null, ForkJoinPool.commonPool());
+        WordleMultiBoardHintEngine viaMatrix = new WordleMultiBoardHintEngine(
+                dictionary, WordleFeedbackMatrix.build(dictionary), ForkJoinPool.commonPool());
+        int[][] fresh = new int[4][];
+        int[] counts = new int[4];
+        Arrays.fill(counts, dictionary.size());
+
+        int opening = computed.selectHint(fresh, counts, new boolean[4]);
+
+        assertEquals(opening, viaMatrix.selectHint(fresh, counts, new boolean[4]));
+        assertEquals(opening, computed.selectHint(new int[16][], filled(16), new boolean[16]));
+    }
+
+    private int[] filled(int boards) {
+        int[] counts = new int[boards];
+        Arrays.fill(counts, dictionary.size());
+        return counts;
+    }
+}
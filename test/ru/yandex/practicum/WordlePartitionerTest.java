@@ -0,0 +1,79 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordlePartitionerTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "канат", "аллея"), logger);
+
+    private Map<Integer, Integer> bucketSizes(int guessId, List<Integer> candidates) {
+        Map<Integer, Integer> sizes = new HashMap<>();
+        for (int id : candidates) {
+            sizes.merge(WordleFeedback.compute(dictionary.getWordCode(guessId), dictionary.getWordCode(id)), 1, Integer::sum);
+        }
+        return sizes;
+    }
+
+    @Test
+    @DisplayName("Остается самая большая корзина, ее слова дают паттерн корзины")
+    void partition_KeepsLargestBucket() {
+        WordlePartitioner partitioner = new WordlePartitioner(dictionary, null);
+        List<Integer> all = new ArrayList<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            all.add(id);
+        }
+
+        for (int guessId = 0; guessId < dictionary.size(); guessId++) {
+            WordlePartitioner.Bucket bucket = partitioner.partition(guessId, null);
+
+            assertEquals(Collections.max(bucketSizes(guessId, all).values()), bucket.size());
+            for (int i = 0; i < bucket.size(); i++) {
+                assertEquals(bucket.getPattern(), WordleFeedback.compute(
+                        dictionary.getWordCode(guessId), dictionary.getWordCode(bucket.getWordId(i))));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("При равных корзинах выбирается та, что открывает меньше букв")
+    void partition_PrefersLessInformativeTie() {
+        WordleDictionary small = new WordleDictionary(Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+        WordlePartitioner partitioner = new WordlePartitioner(small, null);
+        WordlePartitioner.Bucket first = partitioner.partition(small.indexOf("ручка"), null);
+        assertEquals("^---^", WordleFeedback.toString(first.getPattern()));
+
+        WordlePartitioner.Bucket second = partitioner.partition(small.indexOf("баран"), first);
+
+        assertEquals("-+++-", WordleFeedback.toString(second.getPattern()));
+        assertEquals(1, second.size());
+        assertEquals(small.indexOf("сарай"), second.getWordId(0));
+    }
+
+    @Test
+    @DisplayName("Матрица паттернов дает те же корзины, первый ход кэшируется")
+    void partition_MatrixAgreesAndCachesFirstMove() {
+        WordlePartitioner computed = new WordlePartitioner(dictionary, null);
+        WordlePartitioner viaMatrix = new WordlePartitioner(dictionary, WordleFeedbackMatrix.build(dictionary));
+
+        for (int guessId = 0; guessId < dictionary.size(); guessId++) {
+            WordlePartitioner.Bucket expected = computed.partition(guessId, null);
+            WordlePartitioner.Bucket actual = viaMatrix.partition(guessId, null);
+            assertEquals(expected.getPattern(), actual.getPattern());
+            assertEquals(expected.size(), actual.size());
+            assertSame(expected, computed.partition(guessId, null));
+        }
+
+        WordleDictionary other = new WordleDictionary(Arrays.asList("ручка"), logger);
+        assertThrows(WordleSystemException.class,
+                () -> new WordlePartitioner(other, WordleFeedbackMatrix.build(dictionary)));
+        assertThrows(WordleSystemException.class, () -> computed.partition(dictionary.size(), null));
+    }
+}
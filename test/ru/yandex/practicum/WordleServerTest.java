@@ -0,0 +1,193 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+    private WordleServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new WordleServer(new WordleSessionRegistry(dictionary, logger, 100), logger);
+        server.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Команды протокола: новая игра, догадка, подсказка, завершение")
+    void handleCommand_PlaysGame() {
+        Set<Long> owned = new HashSet<>();
+        long id = Long.parseLong(server.handleCommand("NEW", owned).substring(3));
+        String answer = server.getRegistry().get(id).getGame().getAnswer();
+        String other = answer.equals("ручка") ? "тесто" : "ручка";
+
+        assertTrue(server.handleCommand("HINT " + id, owned).startsWith("OK "));
+        assertTrue(server.handleCommand("GUESS " + id + " " + other, owned).endsWith(" 5 IN_PROGRESS"));
+        assertEquals("OK +++++ 4 WON", server.handleCommand("GUESS " + id + " " + answer, owned));
+        assertEquals(0, server.getRegistry().size());
+        assertTrue(owned.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Режим Absurdle: игра уходит от догадок, пока кандидат не останется один")
+    void handleCommand_PlaysAbsurdle() {
+        Set<Long> owned = new HashSet<>();
+        long id = Long.parseLong(server.handleCommand("NEW ABSURDLE", owned).substring(3));
+
+        assertTrue(server.handleCommand("HINT " + id, owned).startsWith("ERR "));
+        assertEquals("OK ^---^ 2 IN_PROGRESS", server.handleCommand("GUESS " + id + " ручка", owned));
+        assertEquals("OK -+++- 1 IN_PROGRESS", server.handleCommand("GUESS " + id + " баран", owned));
+        assertEquals("OK +++++ 1 WON", server.handleCommand("GUESS " + id + " сарай", owned));
+        assertEquals(0, server.getRegistry().size());
+        assertTrue(owned.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ошибки протокола возвращаются строкой ERR")
+    void handleCommand_ReportsErrors() {
+        Set<Long> owned = new HashSet<>();
+        long id = Long.parseLong(server.handleCommand("NEW", owned).substring(3));
+
+        assertTrue(server.handleCommand("JUMP", owned).startsWith("ERR "));
+        assertTrue(server.handleCommand("GUESS", owned).startsWith("ERR "));
+        assertTrue(server.handleCommand("GUESS abc ручка", owned).startsWith("ERR "));
+        assertTrue(server.handleCommand("GUESS 999 ручка", owned).startsWith("ERR "));
+        assertTrue(server.handleCommand("GUESS " + id + " ааааа", owned).startsWith("ERR "));
+        assertEquals("OK", server.handleCommand("END " + id, owned));
+        assertTrue(server.handleCommand("END " + id, owned).startsWith("ERR "));
+    }
+
+    @Test
+    @DisplayName("Соединение не может играть в чужую сессию")
+    void handleCommand_RejectsForeignSession() {
+        Set<Long> owner = new HashSet<>();
+        Set<Long> stranger = new HashSet<>();
+        long id = Long.parseLong(server.handleCommand("NEW", owner).substring(3));
+
+        assertEquals("ERR Сессия не найдена: " + id, server.handleCommand("GUESS " + id + " ручка", stranger));
+        assertEquals("ERR Сессия не найдена: " + id, server.handleCommand("HINT " + id, stranger));
+        assertEquals("ERR Сессия не найдена: " + id, server.handleCommand("END " + id, stranger));
+        assertEquals(0, server.getRegistry().getStore().getUsedAttempts(id));
+        assertEquals("OK", server.handleCommand("END " + id, owner));
+    }
+
+    @Test
+    @DisplayName("Ответ на догадку и завершение уходит после fsync журнала")
+    void handleCommand_WithJournal_RepliesAfterSync() {
+        try (WordleJournal journal = new WordleJournal(tempDir)) {
+            server.getRegistry().setJournal(journal);
+            Set<Long> owned = new HashSet<>();
+            long id = Long.parseLong(server.handleCommand("NEW", owned).substring(3));
+            String answer = server.getRegistry().get(id).getGame().getAnswer();
+
+            server.handleCommand("GUESS " + id + " " + (answer.equals("ручка") ? "тесто" : "ручка"), owned);
+            assertEquals(journal.getAppendedCount(), journal.getDurableCount());
+            server.handleCommand("HINT " + id, owned);
+            assertEquals("OK", server.handleCommand("END " + id, owned));
+            assertEquals(journal.getAppendedCount(), journal.getDurableCount());
+            assertEquals(3, journal.getDurableCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Игра по сокету, незавершенные сессии удаляются при отключении")
+    void socket_PlaysAndCleansUpOnDisconnect() throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write("NEW\nNEW\n");
+            writer.flush();
+            String first = reader.readLine().substring(3);
+            reader.readLine();
+            assertEquals(2, server.getRegistry().size());
+
+            String answer = server.getRegistry().get(Long.parseLong(first)).getGame().getAnswer();
+            writer.write("GUESS " + first + " " + answer + "\nQUIT\n");
+            writer.flush();
+            assertEquals("OK +++++ 5 WON", reader.readLine());
+            assertEquals("BYE", reader.readLine());
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getRegistry().size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, server.getRegistry().size());
+    }
+
+    @Test
+    @DisplayName("Подсказка отменяется, когда клиент отключается, не дождавшись ответа")
+    void socket_CancelsHintOnDisconnect() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        WordleHintStrategy waiting = new WordleHintStrategy() {
+            @Override
+            public String getName() {
+                return "waiting";
+            }
+
+            @Override
+            public int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount) {
+                return candidateIds[0];
+            }
+
+            @Override
+            public int selectHint(WordleDictionary dictionary, int[] candidateIds, int candidateCount,
+                                  WordleHintDeadline deadline) {
+                started.countDown();
+                long limit = System.nanoTime() + 5_000_000_000L;
+                while (!deadline.isCancelled() && System.nanoTime() < limit) {
+                    LockSupport.parkNanos(1_000_000L);
+                }
+                if (deadline.isCancelled()) {
+                    cancelled.countDown();
+                }
+                return candidateIds[0];
+            }
+        };
+        server.close();
+        server = new WordleServer(new WordleSessionRegistry(dictionary, logger, 100, null, waiting), logger);
+        server.start(0);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write("NEW\n");
+            writer.flush();
+            String id = reader.readLine().substring(3);
+            writer.write("HINT " + id + "\n");
+            writer.flush();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            socket.shutdownOutput();
+            assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
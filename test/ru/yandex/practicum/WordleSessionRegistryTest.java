@@ -0,0 +1,103 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleSessionRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат"), logger);
+
+    @Test
+    @DisplayName("Созданная сессия находится по id и удаляется")
+    void createGetRemove_RoundTrip() {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 10);
+
+        WordleSession session = registry.create();
+
+        assertEquals(session.getId(), registry.get(session.getId()).getId());
+        assertEquals(session.getGame().getAnswer(), registry.get(session.getId()).getGame().getAnswer());
+        assertEquals(1, registry.size());
+        assertTrue(registry.remove(session.getId()));
+        assertFalse(registry.remove(session.getId()));
+        assertThrows(WordleGameException.class, () -> registry.get(session.getId()));
+    }
+
+    @Test
+    @DisplayName("Загаданное слово не попадает в лог уровня INFO")
+    void create_DoesNotLogAnswerAtInfo() {
+        StringWriter output = new StringWriter();
+        WordleLogger infoLogger = WordleLogger.synchronous(new PrintWriter(output, true), WordleLogLevel.INFO);
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, infoLogger, 10);
+
+        for (int i = 0; i < 5; i++) {
+            WordleSession session = registry.create();
+            assertFalse(output.toString().contains(session.getGame().getAnswer()));
+        }
+    }
+
+    @Test
+    @DisplayName("Ошибка журнала при создании игры не занимает слот")
+    void create_JournalClosed_ReleasesSlot() {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 2);
+        WordleJournal journal = new WordleJournal(tempDir);
+        registry.setJournal(journal);
+        journal.close();
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(WordleSystemException.class, registry::create);
+        }
+        assertEquals(0, registry.size());
+        registry.setJournal(null);
+        registry.create();
+        registry.create();
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    @DisplayName("Лимит сессий не превышается и освобождается после удаления")
+    void create_RespectsLimit() {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 2);
+        WordleSession first = registry.create();
+        registry.create();
+
+        assertThrows(WordleGameException.class, registry::create);
+
+        registry.remove(first.getId());
+        assertDoesNotThrow(registry::create);
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    @DisplayName("Параллельное создание выдает уникальные id")
+    void create_ConcurrentIdsAreUnique() throws InterruptedException {
+        WordleSessionRegistry registry = new WordleSessionRegistry(dictionary, logger, 10_000);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    ids.add(registry.create().getId());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, ids.size());
+        assertEquals(4000, registry.size());
+    }
+}
@@ -0,0 +1,111 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleSessionStoreTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой"), logger);
+
+    @Test
+    @DisplayName("Догадки и паттерны сохраняются в столбцах сессии")
+    void applyGuess_StoresHistory() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 4);
+        long id = store.create(dictionary.indexOf("герой"));
+
+        int pattern = store.applyGuess(id, dictionary.indexOf("сарай"));
+
+        assertEquals("--+-+", WordleFeedback.toString(pattern));
+        assertEquals(1, store.getUsedAttempts(id));
+        assertEquals(dictionary.indexOf("сарай"), store.getGuessId(id, 0));
+        assertEquals(pattern, store.getPattern(id, 0));
+        assertFalse(store.isWordGuessed(id));
+
+        assertEquals(WordleFeedback.ALL_CORRECT, store.applyGuess(id, dictionary.indexOf("герой")));
+        assertTrue(store.isWordGuessed(id));
+        assertThrows(WordleGameException.class, () -> store.applyGuess(id, 0));
+    }
+
+    @Test
+    @DisplayName("После шести попыток игра завершена")
+    void applyGuess_SixAttempts_GameOver() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 1);
+        long id = store.create(dictionary.indexOf("герой"));
+        for (int i = 0; i < WordleSessionStore.MAX_ATTEMPTS; i++) {
+            store.applyGuess(id, dictionary.indexOf("ручка"));
+        }
+        assertEquals(WordleSessionStore.MAX_ATTEMPTS, store.getUsedAttempts(id));
+        assertThrows(WordleGameException.class, () -> store.applyGuess(id, 0));
+    }
+
+    @Test
+    @DisplayName("Слот переиспользуется, но старый id к новой сессии не подходит")
+    void remove_ReusedSlot_StaleIdRejected() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 1);
+        long first = store.create(0);
+        assertThrows(WordleGameException.class, () -> store.create(1));
+
+        assertTrue(store.remove(first));
+        assertFalse(store.remove(first));
+        long second = store.create(1);
+
+        assertNotEquals(first, second);
+        assertFalse(store.contains(first));
+        assertTrue(store.contains(second));
+        assertEquals(0, store.getUsedAttempts(second));
+        assertThrows(WordleGameException.class, () -> store.getAnswerId(first));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Id с тем же слотом, но другой меткой не подходит")
+    void contains_ForgedTag_Rejected() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 4);
+        long first = store.create(0);
+        long second = store.create(1);
+
+        assertTrue(first > 0 && second > 0);
+        assertNotEquals(first >>> 3, second >>> 3);
+        assertFalse(store.contains(first ^ 1L << 40));
+        assertFalse(store.contains(first & 0x7));
+        assertThrows(WordleGameException.class, () -> store.getAnswerId(second ^ 1L << 20));
+    }
+
+    @Test
+    @DisplayName("Восстановленная партия совпадает с сыгранной напрямую")
+    void restoreGame_MatchesDirectGame() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 1);
+        long id = store.create(dictionary.indexOf("салат"));
+        WordleGame direct = new WordleGame(dictionary, logger, "салат");
+        for (String guess : List.of("ручка", "баран")) {
+            store.applyGuess(id, dictionary.indexOf(guess));
+            direct.checkGuess(guess);
+        }
+
+        WordleGame restored = store.restoreGame(id, logger);
+
+        assertEquals(direct.getCandidateCount(), restored.getCandidateCount());
+        assertEquals(direct.getRemainingAttempts(), restored.getRemainingAttempts());
+        assertEquals(direct.getPreviousGuesses(), restored.getPreviousGuesses());
+        assertEquals(direct.getAnswer(), restored.getAnswer());
+        assertFalse(restored.isWordGuessed());
+    }
+
+    @Test
+    @DisplayName("Сессия без загаданного слова только резервирует id")
+    void create_NoAnswer_RejectsGuesses() {
+        WordleSessionStore store = new WordleSessionStore(dictionary, 2);
+        long id = store.create(WordleSessionStore.NO_ANSWER);
+
+        assertEquals(WordleSessionStore.NO_ANSWER, store.getAnswerId(id));
+        assertThrows(WordleSystemException.class, () -> store.applyGuess(id, 0));
+        assertThrows(WordleSystemException.class, () -> store.create(dictionary.size()));
+    }
+}
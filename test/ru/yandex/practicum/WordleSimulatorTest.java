@@ -0,0 +1,63 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleSimulatorTest {
+
+    private final WordleDictionary dictionary = new WordleDictionary(Arrays.asList(
+            "ручка", "тесто", "баран", "сарай", "салат",
+            "герой", "гонец", "травы", "молот", "роман", "ветер"
+    ), WordleLogger.synchronous(new PrintWriter(Writer.nullWriter())));
+
+    @Test
+    @DisplayName("Симуляция играет каждым словом словаря ровно один раз")
+    void run_PlaysEveryAnswer() {
+        WordleSimulator.Report report = new WordleSimulator(dictionary, null, null, ForkJoinPool.commonPool()).run();
+
+        int total = report.getFailures();
+        for (int attempts = 1; attempts <= 6; attempts++) {
+            total += report.getSolvedIn(attempts);
+        }
+        assertEquals(dictionary.size(), report.getGames());
+        assertEquals(dictionary.size(), total);
+        assertEquals(0, report.getFailures());
+        assertTrue(report.getAverageGuesses() >= 1 && report.getAverageGuesses() <= 6);
+        assertTrue(report.getLatencyPercentileNanos(0.5) <= report.getLatencyPercentileNanos(1.0));
+    }
+
+    @Test
+    @DisplayName("Энтропийная стратегия решает все игры маленького словаря")
+    void run_WithEntropyStrategy() {
+        WordleSimulator simulator = new WordleSimulator(dictionary,
+                new WordleEntropyHintStrategy(WordleFeedbackMatrix.build(dictionary), ForkJoinPool.commonPool()),
+                null, ForkJoinPool.commonPool());
+
+        WordleSimulator.Report report = simulator.run();
+
+        assertEquals(0, report.getFailureRate());
+        assertTrue(report.getAverageGuesses() <= 3);
+    }
+
+    @Test
+    @DisplayName("Отчет печатает распределение попыток")
+    void report_Prints() {
+        WordleSimulator.Report report = new WordleSimulator(dictionary, null, null, ForkJoinPool.commonPool())
+                .run(new int[]{dictionary.indexOf("ручка")});
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        report.print(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        String text = output.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("Сыграно игр: 1"));
+        assertTrue(text.contains("не угадано: 0"));
+        assertThrows(WordleSystemException.class, () -> report.getSolvedIn(7));
+    }
+}
@@ -0,0 +1,92 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordleStoredGameTest {
+
+    private final WordleLogger logger = WordleLogger.synchronous(new PrintWriter(Writer.nullWriter()));
+    private final WordleDictionary dictionary = new WordleDictionary(
+            Arrays.asList("ручка", "тесто", "баран", "сарай", "салат", "герой", "гонец", "роман"), logger);
+    private final WordleSessionStore store = new WordleSessionStore(dictionary, 8);
+
+    private WordleStoredGame game(String answer) {
+        return new WordleStoredGame(store, store.create(dictionary.indexOf(answer)), logger, null);
+    }
+
+    @Test
+    @DisplayName("Фасад ведет себя как WordleGame")
+    void checkGuess_SameAsWordleGame() {
+        WordleStoredGame stored = game("герой");
+        WordleGame direct = new WordleGame(dictionary, logger, "герой");
+
+        for (String guess : List.of("сарай", "роман")) {
+            assertEquals(direct.checkGuess(guess), stored.checkGuess(guess));
+        }
+        assertEquals(direct.getRemainingAttempts(), stored.getRemainingAttempts());
+        assertEquals(direct.getUsedAttempts(), stored.getUsedAttempts());
+        assertEquals(direct.getPreviousGuesses(), stored.getPreviousGuesses());
+        assertEquals(direct.getCandidateCount(), stored.getCandidateCount());
+        assertEquals(direct.isGameOver(), stored.isGameOver());
+
+        stored.checkGuess("ГЕРОЙ");
+        assertTrue(stored.isWordGuessed());
+        assertTrue(stored.isGameOver());
+        assertThrows(WordleGameException.class, () -> stored.checkGuess("сарай"));
+    }
+
+    @Test
+    @DisplayName("Неизвестное слово отклоняется и не тратит попытку")
+    void checkGuess_UnknownWord_Throws() {
+        WordleStoredGame stored = game("салат");
+        assertThrows(WordNotFoundInDictionaryException.class, () -> stored.checkGuess("абвгд"));
+        assertThrows(WordNotFoundInDictionaryException.class, () -> stored.checkGuess(null));
+        assertEquals(0, stored.getUsedAttempts());
+    }
+
+    @Test
+    @DisplayName("Подсказка - не названное раньше слово, подходящее под историю")
+    void generateHint_ReturnsUnguessedCandidate() {
+        WordleStoredGame stored = game("салат");
+        stored.checkGuess("баран");
+
+        String hint = stored.generateHint();
+
+        assertNotEquals("баран", hint);
+        assertTrue(dictionary.contains(hint));
+        WordleGame restored = store.restoreGame(stored.getId(), logger);
+        assertTrue(restored.getCandidateCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("Подсказки фасадов делят общий кэш")
+    void generateHint_UsesSharedCache() {
+        WordleHintCache cache = new WordleHintCache(dictionary, WordleGame.HEURISTIC_STRATEGY_NAME, 16);
+        WordleStoredGame first = new WordleStoredGame(store, store.create(dictionary.indexOf("салат")), logger, cache);
+        WordleStoredGame second = new WordleStoredGame(store, store.create(dictionary.indexOf("салат")), logger, cache);
+        first.checkGuess("ручка");
+        second.checkGuess("ручка");
+
+        assertEquals(first.generateHint(), second.generateHint());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Подсказка по снимку не зависит от догадок после него")
+    void generateHint_FromSnapshot_IgnoresLaterGuesses() {
+        WordleStoredGame stored = game("салат");
+        stored.checkGuess("баран");
+        WordleGame snapshot = stored.snapshot();
+        stored.checkGuess("ручка");
+
+        assertEquals(1, snapshot.getUsedAttempts());
+        String hint = stored.generateHint(snapshot, WordleHintDeadline.none());
+        assertNotEquals("баран", hint);
+        assertEquals(2, stored.getUsedAttempts());
+    }
+}